@@ -1,8 +1,12 @@
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
 
@@ -24,78 +28,474 @@ import java.util.Queue;
  * <p>Приклад використання:</p>
  * <pre>
  * {@code
- * java BasicDataOperation "2024-03-16T00:12:38Z" list
- * java BasicDataOperation "2024-03-16T00:12:38Z" queue  
- * java BasicDataOperation "2024-03-16T00:12:38Z" set
- * java BasicDataOperation "2024-03-16T00:12:38Z" all
+ * java BasicDataOperation 311371.4 list
+ * java BasicDataOperation 311371.4 queue
+ * java BasicDataOperation 311371.4 set
+ * java BasicDataOperation 311371.4 all
+ * java BasicDataOperation 311371.4 stream
+ * java BasicDataOperation 311371.4 concurrent
+ * java BasicDataOperation 2147483647 list --type=int
+ * java BasicDataOperation 2025-02-12 all --type=LocalDate
+ * java BasicDataOperation 311371.4 all --warmup=5 --repeat=20
+ * java BasicDataOperation 311371.4 list --quantiles=0.25,0.5,0.75,0.999
+ * java BasicDataOperation 311371.4 set --bloom-fpr=0.001
+ * java BasicDataOperation --queries=list/float.queries
  * }
  * </pre>
  */
 public class BasicDataOperation {
     static final String PATH_TO_DATA_FILE = "list/float.data";
+    // файли, більші за цей поріг, розбираються паралельно
+    static final long PARALLEL_LOAD_THRESHOLD = 64L << 20;
 
-    Float floatValueToSearch;
-    Float[] floatArray;
+    float floatValueToSearch;
+    float[] floatArray;
+    FloatDataset dataset;
+    int warmupRuns;
+    int measuredRuns = 1;
+    double[] quantilesToReport = DEFAULT_QUANTILES;
+    double bloomFalsePositiveRate = FloatBloomFilter.DEFAULT_FALSE_POSITIVE_RATE;
 
     private static final String SEPARATOR = "\n" + "=".repeat(80) + "\n";
-    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation 311371.4 \n" +
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperation <значення> [list|queue|set|all|concurrent|stream] [--type=<тип>] [--warmup=M] [--repeat=N] [--quantiles=q1,q2,...] [--bloom-fpr=p]\n" +
+"       java BasicDataOperation --queries=<файл запитів> [--warmup=M] [--repeat=N]\n" +
+"Типи: " + DatasetType.optionNames() + " (за замовчуванням float)\n" +
 "Приклад:\n" +
-"  java BasicDataOperation \"2025-01-02T20:42:25Z\"";
+"  java BasicDataOperation 311371.4\n" +
+"  java BasicDataOperation 311371.4 stream\n" +
+"  java BasicDataOperation 311371.4 concurrent\n" +
+"  java BasicDataOperation 2025-02-12 all --type=LocalDate\n" +
+"  java BasicDataOperation 311371.4 all --warmup=5 --repeat=20\n" +
+"  java BasicDataOperation 311371.4 list --quantiles=0.25,0.5,0.75,0.999\n" +
+"  java BasicDataOperation 311371.4 set --bloom-fpr=0.001\n" +
+"  java BasicDataOperation --queries=list/float.queries";
+    private static final List<String> MODES = List.of("list", "queue", "set", "all", "concurrent", "stream");
+    private static final String DEFAULT_MODE = "all";
+    private static final String TYPE_OPTION = "--type=";
+    static final String WARMUP_OPTION = "--warmup=";
+    static final String REPEAT_OPTION = "--repeat=";
+    private static final String QUERIES_OPTION = "--queries=";
+    private static final String QUANTILES_OPTION = "--quantiles=";
+    private static final String BLOOM_FPR_OPTION = "--bloom-fpr=";
+    private static final double[] DEFAULT_QUANTILES = {0.5, 0.9, 0.99};
 
     public static void main(String[] args) {
-        if (args.length != 1) {
+        BasicDataOperation coordinator = new BasicDataOperation();
+        List<String> positionalArgs = new ArrayList<>();
+        DatasetType datasetType = DatasetType.FLOAT;
+        String queriesPath = null;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(TYPE_OPTION)) {
+                    datasetType = DatasetType.fromOptionName(arg.substring(TYPE_OPTION.length()));
+                    if (datasetType == null) {
+                        System.out.println("Помилка: Невідомий тип даних. Допустимі типи: " + DatasetType.optionNames());
+                        return;
+                    }
+                } else if (arg.startsWith(WARMUP_OPTION)) {
+                    coordinator.warmupRuns = Integer.parseInt(arg.substring(WARMUP_OPTION.length()));
+                } else if (arg.startsWith(REPEAT_OPTION)) {
+                    coordinator.measuredRuns = Integer.parseInt(arg.substring(REPEAT_OPTION.length()));
+                } else if (arg.startsWith(QUERIES_OPTION)) {
+                    queriesPath = arg.substring(QUERIES_OPTION.length());
+                } else if (arg.startsWith(QUANTILES_OPTION)) {
+                    coordinator.quantilesToReport = Arrays.stream(arg.substring(QUANTILES_OPTION.length()).split(","))
+                            .map(String::trim)
+                            .mapToDouble(Double::parseDouble)
+                            .toArray();
+                } else if (arg.startsWith(BLOOM_FPR_OPTION)) {
+                    coordinator.bloomFalsePositiveRate = Double.parseDouble(arg.substring(BLOOM_FPR_OPTION.length()));
+                } else {
+                    positionalArgs.add(arg);
+                }
+            }
+        } catch (NumberFormatException e) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+
+        if (queriesPath != null) {
+            if (!positionalArgs.isEmpty() || queriesPath.isEmpty()
+                    || coordinator.warmupRuns < 0 || coordinator.measuredRuns < 1) {
+                System.out.println(USAGE_MESSAGE);
+                return;
+            }
+            if (datasetType != DatasetType.FLOAT) {
+                System.out.println("Помилка: Пакетний пошук підтримується лише для типу float");
+                return;
+            }
+            if (!Files.isReadable(Path.of(queriesPath))) {
+                System.out.println("Помилка: Файл запитів недоступний: " + queriesPath);
+                return;
+            }
+            coordinator.executeBatchQueries(queriesPath);
+            return;
+        }
+
+        for (double quantile : coordinator.quantilesToReport) {
+            if (!(quantile >= 0.0 && quantile <= 1.0)) {
+                System.out.println("Помилка: Квантилі мають бути в межах від 0 до 1");
+                return;
+            }
+        }
+        if (!(coordinator.bloomFalsePositiveRate > 0.0 && coordinator.bloomFalsePositiveRate < 1.0)) {
+            System.out.println("Помилка: Частка хибнопозитивних відповідей фільтра має бути більшою за 0 і меншою за 1");
+            return;
+        }
+
+        if (positionalArgs.size() < 1 || positionalArgs.size() > 2
+                || (positionalArgs.size() == 2 && !MODES.contains(positionalArgs.get(1)))
+                || coordinator.warmupRuns < 0 || coordinator.measuredRuns < 1) {
             System.out.println(USAGE_MESSAGE);
             return;
         }
 
-        String searchValue = args[0];
+        String searchValue = positionalArgs.get(0);
+        String mode = positionalArgs.size() == 2 ? positionalArgs.get(1) : DEFAULT_MODE;
 
-        // Валідація введеного значення дати
+        if (datasetType != DatasetType.FLOAT) {
+            if (mode.equals("stream") || mode.equals("concurrent")) {
+                System.out.println("Помилка: Режим " + mode + " підтримується лише для типу float");
+                return;
+            }
+            coordinator.executeTypedOperations(datasetType, searchValue, mode);
+            return;
+        }
+
+        // Валідація введеного значення
         try {
             Float.parseFloat(searchValue);
         } catch (Exception e) {
-            System.out.println("Помилка: Невірний формат дати-часу. Використовуйте ISO формат (наприклад: 2024-03-16T00:12:38Z)");
+            System.out.println("Помилка: Невірний формат числа float (наприклад: 311371.4)");
             return;
         }
 
-        BasicDataOperation coordinator = new BasicDataOperation();
-        coordinator.executeOperations(args);
+        coordinator.executeOperations(searchValue, mode);
     }
 
     /**
-     * Координує виконання операцій залежно від обраного типу.
+     * Координує виконання операцій залежно від обраного режиму.
      * 
-     * @param args Аргументи командного рядка
+     * @param searchValue Значення для пошуку
+     * @param mode Режим аналізу
      */
-    private void executeOperations(String[] args) {
+    private void executeOperations(String searchValue, String mode) {
         System.out.println(SEPARATOR);
         System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ Float 🚀");
-        System.out.println("Пошуковий параметр: " + args[0]);
+        System.out.println("Пошуковий параметр: " + searchValue);
         System.out.println(SEPARATOR);
         
         // Підготовка даних та перевірка формату
-        floatValueToSearch = Float.parseFloat(args[0]);
-        floatArray = DataFileHandler.loadArrayFromFile(PATH_TO_DATA_FILE);
-        
-        runAllOperations();
+        floatValueToSearch = Float.parseFloat(searchValue);
+
+        if (mode.equals("stream")) {
+            // потоковий режим не завантажує масив у пам'ять
+            runMeasured(warmupRuns, measuredRuns, this::runStreamingAnalysis);
+        } else {
+            // відсортовані дані зберігаються у фоні, поки процесори виконують аналіз
+            DataFileHandler.enableWriteBehind();
+            try {
+                // ескіз квантилів і карта зон наповнюються під час завантаження, без окремого проходу
+                FloatKllSketch quantileSketch = new FloatKllSketch();
+                FloatZoneMap.Builder zoneMapBuilder = new FloatZoneMap.Builder();
+                floatArray = loadDataset(PATH_TO_DATA_FILE, quantileSketch, zoneMapBuilder);
+                dataset = new FloatDataset(floatArray);
+                dataset.attachQuantileSketch(quantileSketch);
+                dataset.attachZoneMap(zoneMapBuilder.build(floatArray));
+                prepareSortedArtifact();
+                prepareBloomFilter();
+                reportQuantiles();
+
+                runMeasured(warmupRuns, measuredRuns, () -> {
+                    switch (mode) {
+                        case "list" -> runListOperations(dataset);
+                        case "queue" -> runQueueOperations(dataset);
+                        case "set" -> runSetOperations(dataset);
+                        case "concurrent" -> runConcurrentOperations();
+                        default -> runAllOperations();
+                    }
+                });
+            } finally {
+                // бар'єр: усі файли мають бути записані до завершення аналізу
+                DataFileHandler.closeWriteBehind();
+            }
+        }
+
+        PerformanceTracker.printReport();
+        System.out.println(SEPARATOR);
+        System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
+        System.out.println(SEPARATOR);
+    }
+
+    /**
+     * Відповідає на всі запити з файлу за один запуск: набір даних завантажується
+     * і індексується один раз, а запити зливаються з відсортованим індексом.
+     *
+     * @param queriesPath Шлях до файлу запитів
+     */
+    private void executeBatchQueries(String queriesPath) {
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 РОЗПОЧАТО ПАКЕТНИЙ ПОШУК У ДАНИХ Float 🚀");
+        System.out.println("Файл запитів: " + queriesPath);
+        System.out.println(SEPARATOR);
+
+        DataFileHandler.enableWriteBehind();
+        try {
+            floatArray = loadDataset(PATH_TO_DATA_FILE, null, null);
+            dataset = new FloatDataset(floatArray);
+            prepareSortedArtifact();
+
+            BatchQueryProcessor batchProcessor = new BatchQueryProcessor(dataset.sortedIndex());
+            runMeasured(warmupRuns, measuredRuns, () -> batchProcessor.run(queriesPath));
+        } finally {
+            DataFileHandler.closeWriteBehind();
+        }
+
+        PerformanceTracker.printReport();
+        System.out.println(SEPARATOR);
+        System.out.println("✅ ПАКЕТНИЙ ПОШУК ЗАВЕРШЕНО ✅");
+        System.out.println(SEPARATOR);
+    }
+
+    /**
+     * Виконує аналіз {@code warmupRuns} разів без виведення і без запису тривалостей,
+     * а потім {@code measuredRuns} разів із записом до {@link PerformanceTracker}.
+     * Виводиться звіт лише першого вимірюваного запуску.
+     *
+     * @param warmupRuns Кількість прогрівальних запусків
+     * @param measuredRuns Кількість вимірюваних запусків
+     * @param analysis Аналіз
+     */
+    static void runMeasured(int warmupRuns, int measuredRuns, Runnable analysis) {
+        if (warmupRuns == 0 && measuredRuns == 1) {
+            analysis.run();
+            return;
+        }
+
+        try (ThreadRoutedOutput routedOutput = ThreadRoutedOutput.install()) {
+            PerformanceTracker.setRecordingEnabled(false);
+            try {
+                for (int i = 0; i < warmupRuns; i++) {
+                    routedOutput.discard(analysis);
+                }
+            } finally {
+                PerformanceTracker.setRecordingEnabled(true);
+            }
+
+            analysis.run();
+            for (int i = 1; i < measuredRuns; i++) {
+                routedOutput.discard(analysis);
+            }
+        }
+    }
+
+    /**
+     * Виконує аналізи List, Queue та Set над набором даних обраного типу
+     * у примітивному сховищі без упакування значень.
+     *
+     * @param datasetType Тип набору даних
+     * @param searchValue Значення для пошуку
+     * @param mode Режим аналізу
+     */
+    private void executeTypedOperations(DatasetType datasetType, String searchValue, String mode) {
+        System.out.println(SEPARATOR);
+        System.out.println("🚀 РОЗПОЧАТО АНАЛІЗ ДАНИХ " + datasetType.optionName() + " 🚀");
+        System.out.println("Пошуковий параметр: " + searchValue);
+        System.out.println(SEPARATOR);
 
+        DataFileHandler.enableWriteBehind();
+        try {
+            long timeStart = System.nanoTime();
+            TypedDataset typedDataset = datasetType.load();
+            PerformanceTracker.recordOperationTime(timeStart, "завантаження " + datasetType.filePath());
+            System.out.println("Завантажено елементів: " + typedDataset.size()
+                    + ", обсяг сховища: " + typedDataset.storageBytes() + " байт");
+
+            try {
+                typedDataset.parseQuery(searchValue);
+            } catch (RuntimeException exception) {
+                System.out.println("Помилка: Значення '" + searchValue + "' не відповідає типу " + datasetType.optionName());
+                return;
+            }
+
+            // відсортована копія готується при першому запуску і спільна для всіх повторів
+            TypedDataOperation typedOperation = new TypedDataOperation(datasetType, typedDataset);
+            runMeasured(warmupRuns, measuredRuns, () -> {
+                if (mode.equals("list") || mode.equals("all")) {
+                    System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
+                    System.out.println("-".repeat(50));
+                    typedOperation.runListOperations();
+                }
+                if (mode.equals("queue") || mode.equals("all")) {
+                    System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
+                    System.out.println("-".repeat(50));
+                    typedOperation.runQueueOperations();
+                }
+                if (mode.equals("set") || mode.equals("all")) {
+                    System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
+                    System.out.println("-".repeat(50));
+                    typedOperation.runSetOperations();
+                }
+            });
+        } finally {
+            DataFileHandler.closeWriteBehind();
+        }
+
+        PerformanceTracker.printReport();
         System.out.println(SEPARATOR);
         System.out.println("✅ АНАЛІЗ ЗАВЕРШЕНО ✅");
         System.out.println(SEPARATOR);
     }
 
+    /**
+     * Завантажує дані з файлу. Актуальна двійкова копія читається напряму,
+     * великі текстові файли розбираються паралельно з виведенням пропускної здатності.
+     *
+     * @param filePath Шлях до файлу з даними
+     * @param quantileSketch Ескіз квантилів, що наповнюється під час завантаження, або null
+     * @param zoneMapBuilder Карта зон, що наповнюється під час завантаження, або null
+     * @return Масив значень float
+     */
+    private float[] loadDataset(String filePath, FloatKllSketch quantileSketch, FloatZoneMap.Builder zoneMapBuilder) {
+        long fileSize;
+        try {
+            fileSize = Files.size(Path.of(filePath));
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+
+        if (fileSize < PARALLEL_LOAD_THRESHOLD || DataFileHandler.hasFreshBinaryCopy(filePath)) {
+            FloatTextParser.FloatSink observer = null;
+            if (quantileSketch != null && zoneMapBuilder != null) {
+                observer = value -> {
+                    quantileSketch.accept(value);
+                    zoneMapBuilder.accept(value);
+                };
+            } else if (quantileSketch != null) {
+                observer = quantileSketch;
+            } else if (zoneMapBuilder != null) {
+                observer = zoneMapBuilder;
+            }
+            return DataFileHandler.loadFloatsPreferringBinary(filePath, observer);
+        }
+
+        FloatBinaryFormat.SourceStamp sourceStamp = DataFileHandler.sourceStamp(filePath);
+        ParallelFloatLoader.LoadResult loadResult = ParallelFloatLoader.loadFloatsFromFile(filePath);
+        System.out.printf("Паралельне завантаження: %d елементів, %d частин, %d потоків, %.1f МБ/с%n",
+                loadResult.values().length, loadResult.chunkCount(), loadResult.parallelism(),
+                loadResult.throughputMegabytesPerSecond());
+        if (quantileSketch != null) {
+            quantileSketch.merge(loadResult.quantileSketch());
+        }
+        if (zoneMapBuilder != null) {
+            // межі частин не збігаються з межами блоків, тож зони будуються по з'єднаному масиву
+            zoneMapBuilder.acceptAll(loadResult.values());
+        }
+        DataFileHandler.submitWrite("запис файлу " + filePath + DataFileHandler.BINARY_EXTENSION, () -> FloatBinaryFormat.write(
+                loadResult.values(), Path.of(filePath + DataFileHandler.BINARY_EXTENSION), sourceStamp));
+        return loadResult.values();
+    }
+
+    /**
+     * Готує відсортований індекс набору даних один раз для всіх процесорів: відновлює його
+     * з кешу без сортування, якщо вихідний файл не змінився, або будує і зберігає для наступних запусків.
+     */
+    private void prepareSortedArtifact() {
+        long timeStart = System.nanoTime();
+
+        SortedDatasetCache.SortedArtifact sortedArtifact = SortedDatasetCache.loadOrBuild(PATH_TO_DATA_FILE, floatArray);
+        dataset.attachSortedIndex(sortedArtifact.sortedIndex());
+
+        PerformanceTracker.recordOperationTime(timeStart, sortedArtifact.fromCache()
+                ? "завантаження відсортованого індексу з кешу" : "побудова відсортованого індексу");
+        if (sortedArtifact.fromCache()) {
+            System.out.println("Відсортований індекс завантажено з кешу без сортування: "
+                    + PATH_TO_DATA_FILE + SortedDatasetCache.SORTED_SUFFIX + DataFileHandler.BINARY_EXTENSION);
+        } else {
+            System.out.println("Стратегія сортування: " + FloatSortEngine.strategyFor(floatArray.length)
+                    + " (" + floatArray.length + " елементів, " + Runtime.getRuntime().availableProcessors() + " ядер)");
+            System.out.println("Відсортований індекс побудовано, збереження у фоні: " + PATH_TO_DATA_FILE + SortedDatasetCache.SORTED_SUFFIX);
+        }
+    }
+
+    /**
+     * Будує фільтр Блума набору із заданою часткою хибнопозитивних відповідей, щоб процесори
+     * відповідали на промахи пошуку без звернення до основних структур.
+     */
+    private void prepareBloomFilter() {
+        long timeStart = System.nanoTime();
+
+        FloatBloomFilter bloomFilter = FloatBloomFilter.build(floatArray, bloomFalsePositiveRate);
+        dataset.attachBloomFilter(bloomFilter);
+
+        PerformanceTracker.recordOperationTime(timeStart, "побудова фільтра Блума");
+        System.out.printf("Фільтр Блума: %.1f КБ, %d хешів, частка хибнопозитивних відповідей %.3f%%%n",
+                bloomFilter.bitCount() / (double) Byte.SIZE / 1024, bloomFilter.hashCount(), bloomFilter.falsePositiveRate() * 100);
+    }
+
+    /**
+     * Виводить точні квантилі набору, знайдені вибором без повного сортування, та оцінки
+     * ескізу, наповненого під час завантаження, з фактичною похибкою рангу кожної оцінки.
+     */
+    private void reportQuantiles() {
+        if (floatArray.length == 0 || quantilesToReport.length == 0) {
+            return;
+        }
+
+        System.out.println("📊 КВАНТИЛІ НАБОРУ ДАНИХ");
+        System.out.println("-".repeat(50));
+
+        long timeStart = System.nanoTime();
+        float[] exactValues = FloatQuantiles.exact(floatArray, quantilesToReport);
+        PerformanceTracker.recordOperationTime(timeStart, "точні квантилі вибором");
+
+        FloatKllSketch quantileSketch = dataset.quantileSketch();
+        timeStart = System.nanoTime();
+        float[] estimates = quantileSketch.quantiles(quantilesToReport);
+        PerformanceTracker.recordOperationTime(timeStart, "квантилі з ескізу KLL");
+
+        FloatSortedIndex sortedIndex = dataset.sortedIndex();
+        for (int i = 0; i < quantilesToReport.length; i++) {
+            // оцінка точна, якщо ранг квантиля потрапляє в діапазон рангів її значення
+            long targetRank = FloatQuantiles.rankIndex(quantilesToReport[i], floatArray.length);
+            int lowestRank = sortedIndex.lowerBound(estimates[i]);
+            int highestRank = sortedIndex.upperBound(estimates[i]) - 1;
+            long rankError = targetRank < lowestRank ? lowestRank - targetRank
+                    : targetRank > highestRank ? targetRank - highestRank : 0;
+            System.out.printf("Квантиль %s: точне значення %s, ескіз KLL %s (похибка рангу %.3f%%)%n",
+                    quantilesToReport[i], exactValues[i], estimates[i], 100.0 * rankError / floatArray.length);
+        }
+        System.out.printf("Ескіз KLL: k = %d, збережено %d з %d значень, похибка рангу до %.2f%%%n",
+                quantileSketch.k(), quantileSketch.retainedCount(), quantileSketch.count(),
+                quantileSketch.normalizedRankError() * 100);
+        System.out.println();
+    }
+
+    /**
+     * Виконує пошук і визначення граничних значень за один прохід по файлу
+     * без завантаження всього набору даних у пам'ять.
+     */
+    private void runStreamingAnalysis() {
+        System.out.println("🌊 ПОТОКОВИЙ АНАЛІЗ ДАНИХ");
+        System.out.println("-".repeat(50));
+
+        StreamingFloatAnalyzer streamingAnalyzer = new StreamingFloatAnalyzer(floatValueToSearch, quantilesToReport);
+        streamingAnalyzer.analyzeFile(PATH_TO_DATA_FILE);
+        streamingAnalyzer.printReport();
+    }
+
     /**
      * Запускає операції з колекцією List.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param source Набір даних для аналізу
      */
-    private void runListOperations() {
+    private void runListOperations(FloatDataset source) {
         System.out.println("📋 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ LIST");
         System.out.println("-".repeat(50));
         
         try {
             // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(floatValueToSearch, floatArray);
+            BasicDataOperationUsingList listProcessor = new BasicDataOperationUsingList(floatValueToSearch, source);
             listProcessor.executeDataOperations();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з List: " + e.getMessage());
@@ -106,15 +506,15 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Queue.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param source Набір даних для аналізу
      */
-    private void runQueueOperations() {
+    private void runQueueOperations(FloatDataset source) {
         System.out.println("🔄 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ QUEUE");
         System.out.println("-".repeat(50));
         
         try {
             // Створення екземпляру класу з передаванням даних
-            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(floatValueToSearch, floatArray);
+            BasicDataOperationUsingQueue queueProcessor = new BasicDataOperationUsingQueue(floatValueToSearch, source);
             queueProcessor.runDataProcessing();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Queue: " + e.getMessage());
@@ -125,15 +525,15 @@ public class BasicDataOperation {
     /**
      * Запускає операції з колекцією Set.
      * 
-     * @param args Аргументи для передачі до класу
+     * @param source Набір даних для аналізу
      */
-    private void runSetOperations() {
+    private void runSetOperations(FloatDataset source) {
         System.out.println("🔍 ОБРОБКА ДАНИХ З ВИКОРИСТАННЯМ SET");
         System.out.println("-".repeat(50));
         
         try {
             // Створення екземпляру класу з передаванням даних           
-            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(floatValueToSearch, floatArray);
+            BasicDataOperationUsingSet setProcessor = new BasicDataOperationUsingSet(floatValueToSearch, source);
             setProcessor.executeDataAnalysis();
         } catch (Exception e) {
             System.out.println("❌ Помилка при роботі з Set: " + e.getMessage());
@@ -151,14 +551,28 @@ public class BasicDataOperation {
         System.out.println("=".repeat(60));
         
         // Обробка List
-        runListOperations();
+        runListOperations(dataset);
         System.out.println("\n" + "~".repeat(60) + "\n");
         
         // Обробка Queue  
-        runQueueOperations();
+        runQueueOperations(dataset);
         System.out.println("\n" + "~".repeat(60) + "\n");
         
         // Обробка Set
-        runSetOperations();
+        runSetOperations(dataset);
+    }
+
+    /**
+     * Запускає операції з List, Queue та Set одночасно. Кожен аналіз отримує власний
+     * знімок набору даних, а його звіт друкується цілим блоком після завершення.
+     */
+    private void runConcurrentOperations() {
+        System.out.println("⚡ ПАРАЛЕЛЬНИЙ АНАЛІЗ ВСІХ СТРУКТУР ДАНИХ");
+        System.out.println("=".repeat(60));
+
+        ConcurrentAnalysisRunner.runAll(List.of(
+                new ConcurrentAnalysisRunner.Analysis("List", () -> runListOperations(dataset.snapshot())),
+                new ConcurrentAnalysisRunner.Analysis("Queue", () -> runQueueOperations(dataset.snapshot())),
+                new ConcurrentAnalysisRunner.Analysis("Set", () -> runSetOperations(dataset.snapshot()))));
     }
 }
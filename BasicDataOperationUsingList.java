@@ -1,40 +1,56 @@
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
-import java.util.stream.IntStream;
 
 /**
- * Клас BasicDataOperationUsingList реалізує операції з колекціями типу ArrayList для даних float.
+ * Клас BasicDataOperationUsingList реалізує операції з колекціями типу List для даних float.
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataOperations()} - Виконує комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив елементів float.</li>
+ *   <li>{@link #useSortedOrder()} - Переводить масив на відсортовані значення індексу набору.</li>
  *   <li>{@link #findInArray()} - Здійснює пошук елемента в масиві float.</li>
  *   <li>{@link #locateMinMaxInArray()} - Визначає найменше і найбільше значення в масиві.</li>
- *   <li>{@link #sortList()} - Сортує колекцію List з float.</li>
+ *   <li>{@link #countInRangeInArray()} - Підраховує значення масиву в околі шуканого.</li>
+ *   <li>{@link #findFirstInRangeInArray()} - Шукає перше у порядку файлу значення з околу шуканого.</li>
+ *   <li>{@link #sortList()} - Переводить список на впорядкований вигляд.</li>
  *   <li>{@link #findInList()} - Пошук конкретного значення в списку.</li>
  *   <li>{@link #locateMinMaxInList()} - Пошук мінімального і максимального значення в списку.</li>
+ *   <li>{@link #updateSortedList()} - Вставка і видалення у відсортованому списку.</li>
+ *   <li>{@link #describeValueInIndex()} - Ранг, сусідні значення та входження шуканого значення.</li>
  * </ul>
+ *
+ * <p>У вихідному порядку список - це примітивний масив набору без упакування значень.
+ * Упорядкований вигляд списку - {@link SortedFloatList}, що будується з відсортованих значень
+ * індексу без порівнянь і підтримує порядок при вставках і видаленнях, тож сортування
+ * списку не переставляє значень. Пошуки спершу перевіряють фільтр Блума набору, тож промах
+ * не звертається ні до списку, ні до індексу.</p>
  */
 public class BasicDataOperationUsingList {
-    private Float floatValueToSearch;
-    private Float[] floatArray;
-    private List<Float> dateTimeList;
+    private float floatValueToSearch;
+    private float[] floatArray;
+    private FloatSortedIndex sortedIndex;
+    private boolean arraySorted;
+    private boolean listSorted;
+    private float[] listValues;
+    private SortedFloatList sortedList;
+    private FloatBloomFilter bloomFilter;
+    private FloatZoneMap zoneMap;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param floatValueToSearch Значення для пошуку
-     * @param floatArray Масив float
+     * @param dataset Набір даних float з підготовленими артефактами
      */
-    BasicDataOperationUsingList(Float floatValueToSearch, Float[] floatArray) {
+    BasicDataOperationUsingList(float floatValueToSearch, FloatDataset dataset) {
+        float[] floatArray = dataset.values();
         this.floatValueToSearch = floatValueToSearch;
         this.floatArray = floatArray;
-        this.dateTimeList = new ArrayList<>(Arrays.asList(floatArray));
+        this.sortedIndex = dataset.sortedIndex();
+        this.listValues = floatArray;
+        this.sortedList = SortedFloatList.fromSorted(sortedIndex.sortedValues());
+        this.bloomFilter = dataset.bloomFilter();
+        this.zoneMap = dataset.zoneMap();
     }
     
     /**
@@ -52,32 +68,31 @@ public class BasicDataOperationUsingList {
         
         findInList();
         locateMinMaxInList();
+        updateSortedList();
 
         // потім обробляємо масив дати та часу
         findInArray();
         locateMinMaxInArray();
+        countInRangeInArray();
+        findFirstInRangeInArray();
 
-        performArraySorting();
+        useSortedOrder();
         
         findInArray();
         locateMinMaxInArray();
 
-        // зберігаємо відсортований масив до окремого файлу
-        DataFileHandler.writeArrayToFile(floatArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
+        // запити до відсортованого індексу
+        describeValueInIndex();
     }
 
     /**
-     * Упорядковує масив об'єктів float за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Переводить масив на відсортовані значення індексу набору. Набір сортується один раз під
+     * час побудови індексу ({@link FloatSortedIndex#build(float[])}), тож тут лише змінюється
+     * посилання і тривалість не вимірюється.
      */
-    void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        floatArray = Arrays.stream(floatArray)
-            .sorted()
-            .toArray(Float[]::new);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+    void useSortedOrder() {
+        floatArray = sortedIndex.sortedValues();
+        arraySorted = true;
     }
 
     /**
@@ -86,13 +101,25 @@ public class BasicDataOperationUsingList {
     void findInArray() {
         long timeStart = System.nanoTime();
 
-        int position = IntStream.range(0, floatArray.length)
-            .filter(i -> Float.compare(floatValueToSearch, floatArray[i]) == 0)
-            .findFirst()
-            .orElse(-1);
-
+        // перше входження: у відсортованому масиві - за індексом, у вихідному порядку -
+        // переглядом лише тих блоків, діапазон яких може містити значення
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        FloatZoneMap.SearchResult zoneSearch = null;
+        int position;
+        if (!mightContain) {
+            position = -1;
+        } else if (arraySorted) {
+            position = sortedIndex.indexOf(floatValueToSearch);
+        } else {
+            zoneSearch = zoneMap.firstPosition(floatValueToSearch);
+            position = zoneSearch.position();
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        FloatBloomFilter.recordLookup(mightContain, position >= 0);
+        if (zoneSearch != null) {
+            FloatZoneMap.recordBlocks(zoneSearch.blocksScanned(), zoneSearch.blocksSkipped());
+        }
 
         if (position >= 0) {
             System.out.println("Елемент '" + floatValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -112,75 +139,165 @@ public class BasicDataOperationUsingList {
 
         long timeStart = System.nanoTime();
 
-        float min = Arrays.stream(floatArray)
-            .min(Float::compareTo)
-            .orElse(null);
+        FloatMinMaxKernel.MinMax minMax = FloatMinMaxKernel.of(floatArray);
+        float min = minMax.min();
+        float max = minMax.max();
+
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+
+        System.out.println("Найменше значення в масивi: " + min);
+        System.out.println("Найбільше значення в масивi: " + max);
+    }
 
+    /**
+     * Підраховує значення масиву, що лежать в околі шуканого значення. Кількість не залежить
+     * від порядку масиву, тож її дають два бінарні пошуки у відсортованому індексі за O(log n).
+     */
+    void countInRangeInArray() {
+        float lower = floatValueToSearch - FloatDataset.RANGE_HALF_WIDTH;
+        float upper = floatValueToSearch + FloatDataset.RANGE_HALF_WIDTH;
 
-        float max = Arrays.stream(floatArray)
-            .max(Float::compareTo)
-            .orElse(null);
+        long timeStart = System.nanoTime();
 
+        int count = sortedIndex.countInRange(lower, upper);
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.recordOperationTime(timeStart, "підрахунок елементів масиву в діапазоні");
 
-        System.out.println("Найменше значення в масивi: " + min);
-        System.out.println("Найбільше значення в масивi: " + max);
+        System.out.println("Кiлькiсть елементiв масиву в діапазоні [" + lower + ", " + upper + "]: " + count);
     }
 
     /**
-     * Шукає конкретне значення дати та часу в колекції ArrayList.
+     * Шукає перше у вихідному порядку значення масиву з околу шуканого значення,
+     * переглядаючи лише блоки карти зон, які перетинаються з околом.
      */
-    void findInList() {
+    void findFirstInRangeInArray() {
+        float lower = floatValueToSearch - FloatDataset.RANGE_HALF_WIDTH;
+        float upper = floatValueToSearch + FloatDataset.RANGE_HALF_WIDTH;
+
         long timeStart = System.nanoTime();
 
-        int position = IntStream.range(0, floatArray.length)
-            .filter(i -> Float.compare(floatValueToSearch, floatArray[i]) == 0)
-            .findFirst()
-            .orElse(-1);
+        FloatZoneMap.SearchResult zoneSearch = zoneMap.firstPositionInRange(lower, upper);
 
+        PerformanceTracker.recordOperationTime(timeStart, "пошук діапазону в масивi дати i часу");
+        FloatZoneMap.recordBlocks(zoneSearch.blocksScanned(), zoneSearch.blocksSkipped());
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в List дати i часу");        
+        if (zoneSearch.position() >= 0) {
+            System.out.println("Перший елемент масиву в діапазоні [" + lower + ", " + upper + "] має позицію: " + zoneSearch.position());
+        } else {
+            System.out.println("Елементи в діапазоні [" + lower + ", " + upper + "] відсутні в масиві.");
+        }
+    }
+
+    /**
+     * Шукає конкретне значення дати та часу в колекції List.
+     */
+    void findInList() {
+        long timeStart = System.nanoTime();
+
+        // пошук у самому списку: у відсортованому вигляді - бінарний, у вихідному порядку - перегляд
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        int position = !mightContain ? -1
+                : listSorted ? sortedList.indexOf(floatValueToSearch) : indexOf(listValues, floatValueToSearch);
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в List дати i часу");        
+        FloatBloomFilter.recordLookup(mightContain, position >= 0);
 
         if (position >= 0) {
-            System.out.println("Елемент '" + floatValueToSearch + "' знайдено в ArrayList за позицією: " + position);
+            System.out.println("Елемент '" + floatValueToSearch + "' знайдено в List за позицією: " + position);
         } else {
-            System.out.println("Елемент '" + floatValueToSearch + "' відсутній в ArrayList.");
+            System.out.println("Елемент '" + floatValueToSearch + "' відсутній в List.");
         }
     }
 
     /**
-     * Визначає найменше і найбільше значення в колекції ArrayList з датами.
+     * Визначає найменше і найбільше значення в колекції List з датами.
      */
     void locateMinMaxInList() {
-        if (dateTimeList == null || dateTimeList.isEmpty()) {
-            System.out.println("Колекція ArrayList є пустою або не ініціалізованою.");
+        if (listValues == null || listValues.length == 0) {
+            System.out.println("Колекція List є пустою або не ініціалізованою.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        float minValue = Collections.min(dateTimeList);
-        float maxValue = Collections.max(dateTimeList);
+        float minValue;
+        float maxValue;
+        if (listSorted) {
+            // краї відсортованого списку доступні без перегляду
+            minValue = sortedList.min();
+            maxValue = sortedList.max();
+        } else {
+            FloatMinMaxKernel.MinMax minMax = FloatMinMaxKernel.of(listValues);
+            minValue = minMax.min();
+            maxValue = minMax.max();
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в List");
 
         System.out.println("Найменше значення в List: " + minValue);
         System.out.println("Найбільше значення в List: " + maxValue);
     }
 
     /**
-     * Упорядковує колекцію List з об'єктами float за зростанням.
-     * Відстежує та виводить час виконання операції сортування.
+     * Переводить колекцію List на упорядкований вигляд. Відсортований список уже підтримується
+     * при кожній зміні, тож сортування не виконується і тривалість не вимірюється.
      */
     void sortList() {
+        listSorted = true;
+    }
+
+    /**
+     * Вставляє шукане значення у відсортований список і видаляє його знову,
+     * виводячи позицію вставленого значення та розмір списку.
+     */
+    void updateSortedList() {
         long timeStart = System.nanoTime();
 
-        dateTimeList = dateTimeList.stream()
-            .sorted()
-            .toList();
+        sortedList.add(floatValueToSearch);
+        int position = sortedList.indexOf(floatValueToSearch);
+        sortedList.remove(floatValueToSearch);
 
+        PerformanceTracker.recordOperationTime(timeStart, "вставка i видалення в упорядкованому List");
 
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування ArrayList дати i часу");
+        System.out.println("Вставлений елемент '" + floatValueToSearch + "' займає у впорядкованому List позицію: " + position);
+        System.out.println("Розмір List після видалення: " + sortedList.size());
+    }
+
+    /**
+     * Виводить ранг шуканого значення, найближчі значення з обох боків
+     * та кількість і позиції його входжень у вихідному масиві.
+     */
+    void describeValueInIndex() {
+        long timeStart = System.nanoTime();
+
+        int rank = sortedIndex.rank(floatValueToSearch);
+        int floorIndex = sortedIndex.floorIndex(floatValueToSearch);
+        int ceilingIndex = sortedIndex.ceilingIndex(floatValueToSearch);
+        int occurrences = sortedIndex.count(floatValueToSearch);
+
+        PerformanceTracker.recordOperationTime(timeStart, "запити до відсортованого індексу");
+
+        System.out.println("Кiлькiсть елементiв, менших за '" + floatValueToSearch + "': " + rank);
+        System.out.println("Найближче значення не більше за шукане: "
+                + (floorIndex >= 0 ? sortedIndex.valueAt(floorIndex) : "відсутнє"));
+        System.out.println("Найближче значення не менше за шукане: "
+                + (ceilingIndex >= 0 ? sortedIndex.valueAt(ceilingIndex) : "відсутнє"));
+        if (occurrences > 0) {
+            System.out.println("Кiлькiсть входжень: " + occurrences + ", перша позиція: "
+                    + sortedIndex.firstPosition(floatValueToSearch) + ", остання позиція: "
+                    + sortedIndex.lastPosition(floatValueToSearch));
+        }
+    }
+
+    /**
+     * @return Позиція першого значення, рівного шуканому за {@link Float#compare(float, float)}, або -1
+     */
+    static int indexOf(float[] values, float value) {
+        for (int i = 0; i < values.length; i++) {
+            if (Float.compare(values[i], value) == 0) {
+                return i;
+            }
+        }
+        return -1;
     }
-}
\ No newline at end of file
+}
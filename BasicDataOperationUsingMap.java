@@ -1,8 +1,11 @@
 import java.util.Comparator;
-import java.util.Hashtable;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.LinkedHashMap;
 
@@ -22,15 +25,21 @@ import java.util.LinkedHashMap;
  * </ul>
  */
 public class BasicDataOperationUsingMap {
+    static final String PATH_TO_DATA_FILE = "list/Scorpion.data";
+    private static final String USAGE_MESSAGE = "Використання: java BasicDataOperationUsingMap [файл даних] [--warmup=M] [--repeat=N] "
+            + "[--sorted-view=hashtable,linkedhashmap] [--reverse-index=hashtable,linkedhashmap,treemap]";
+    private static final String SORTED_VIEW_OPTION = "--sorted-view=";
+    private static final String REVERSE_INDEX_OPTION = "--reverse-index=";
+
     private final Scorpion KEY_TO_SEARCH_AND_DELETE = new Scorpion("Гак",6.9);
     private final Scorpion KEY_TO_ADD = new Scorpion("Жало", 7.2);
 
     private final String VALUE_TO_SEARCH_AND_DELETE = "Макар";
     private final String VALUE_TO_ADD = "Владислав";
 
-    private Hashtable<Scorpion, String> hashtable;
-    private LinkedHashMap<Scorpion, String> linkedHashMap;
-    private TreeMap<Scorpion, String> treeMap;
+    private Map<Scorpion, String> hashtable;
+    private Map<Scorpion, String> linkedHashMap;
+    private Map<Scorpion, String> treeMap;
 
     /**
      * Компаратор для сортування Map.Entry за значеннями String.
@@ -50,16 +59,47 @@ public class BasicDataOperationUsingMap {
 
     public record Scorpion(String nickname, Double species) {}
 
-    private static final Comparator<Scorpion> SCORPION_COMPARATOR = Comparator.comparing(Scorpion::nickname).thenComparing(Scorpion::species, Comparator.reverseOrder());
+    /**
+     * Map процесора, для якої в командному рядку вмикаються обгортки.
+     */
+    enum MapSlot {
+        HASHTABLE("hashtable", "ScorpionHashMap"),
+        LINKED_HASH_MAP("linkedhashmap", "LinkedHashMap"),
+        TREE_MAP("treemap", "TreeMap");
+
+        private final String optionName;
+        private final String displayName;
+
+        MapSlot(String optionName, String displayName) {
+            this.optionName = optionName;
+            this.displayName = displayName;
+        }
+
+        static MapSlot fromOptionName(String optionName) {
+            for (MapSlot slot : values()) {
+                if (slot.optionName.equals(optionName)) {
+                    return slot;
+                }
+            }
+            throw new IllegalArgumentException("Невідома Map: " + optionName);
+        }
+    }
+
+    static final Comparator<Scorpion> SCORPION_COMPARATOR = Comparator.comparing(Scorpion::nickname).thenComparing(Scorpion::species, Comparator.reverseOrder());
 
     /**
      * Конструктор, який ініціалізує об'єкт з готовими даними.
      * 
-     * @param hashtable Hashtable з початковими даними (ключ: Scorpion, значення: ім'я власника)
+     * Кожну Map можна обгорнути {@link ReverseIndexedMap}, тоді пошук і видалення за значенням
+     * користуються зворотним індексом замість перегляду всіх записів. Хеш-Map можна обгорнути
+     * {@link SortedKeyViewMap} з {@link #SCORPION_COMPARATOR}, тоді вона обходиться у
+     * відсортованому порядку, а сортування не потрібне; зворотний індекс тоді - зовнішня обгортка.
+     * 
+     * @param hashtable ScorpionHashMap з початковими даними (ключ: Scorpion, значення: ім'я власника)
      * @param linkedHashMap LinkedHashMap з початковими даними (ключ: Scorpion, значення: ім'я власника)
      * @param treeMap TreeMap з початковими даними (ключ: Scorpion, значення: ім'я власника)
      */
-    BasicDataOperationUsingMap(Hashtable<Scorpion, String> hashtable, LinkedHashMap<Scorpion, String> linkedHashMap, TreeMap<Scorpion, String> treeMap) {
+    BasicDataOperationUsingMap(Map<Scorpion, String> hashtable, Map<Scorpion, String> linkedHashMap, Map<Scorpion, String> treeMap) {
         this.hashtable = hashtable;
         this.linkedHashMap = linkedHashMap;
         this.treeMap = treeMap;
@@ -71,32 +111,27 @@ public class BasicDataOperationUsingMap {
      * Метод виконує різноманітні операції з Map: пошук, додавання, видалення та сортування.
      */
     public void executeDataOperations() {
-        //Спочатку працюємо з Hashtable
-        System.out.println("========= Операції з Hashtable =========");
-        System.out.println("Початковий розмір Hashtable: " + hashtable.size());
+        //Спочатку працюємо з ScorpionHashMap
+        System.out.println("========= Операції з ScorpionHashMap =========");
+        System.out.println("Початковий розмір ScorpionHashMap: " + hashtable.size());
+        reportReverseIndex(hashtable);
         
-        //Пошук до сортування
         findByKeyInHashtable();
         findByValueInHashtable();
 
         printHashtable();
-        sortHashtable();
-        printHashtable();
-
-        //Пошук після сортування
-        findByKeyInHashtable();
-        findByValueInHashtable();
 
         addEntryToHashtable();
         
         removeByKeyFromHashtable();
         removeByValueFromHashtable();
                
-        System.out.println("Кінцевий розмір Hashtable: " + hashtable.size());
+        System.out.println("Кінцевий розмір ScorpionHashMap: " + hashtable.size());
 
         //Обробляємо LinkedHashMap
         System.out.println("\n\n========= Операції з LinkedHashMap =========");
         System.out.println("Початковий розмір LinkedHashMap: " + linkedHashMap.size());
+        reportReverseIndex(linkedHashMap);
         
         findByKeyInLinkedHashMap();
         findByValueInLinkedHashMap();
@@ -115,6 +150,7 @@ public class BasicDataOperationUsingMap {
         //Обробляємо TreeMap
         System.out.println("\n\n========= Операції з Treemap =========");
         System.out.println("Початковий розмір Treemap: " + treeMap.size());
+        reportReverseIndex(treeMap);
 
         findByKeyInTreeMap();
         findByValueInTreeMap();
@@ -132,14 +168,16 @@ public class BasicDataOperationUsingMap {
     }
 
 
-    // ===== Методи для Hashtable =====
+    // ===== Методи для ScorpionHashMap =====
 
     /**
-     * Виводить вміст Hashtable без сортування.
-     * Hashtable не гарантує жодного порядку елементів.
+     * Виводить вміст ScorpionHashMap.
+     * ScorpionHashMap не гарантує жодного порядку елементів, а перебудова хеш-таблиці
+     * відсортованими записами його не змінює, тому окремого сортування немає: з
+     * {@link SortedKeyViewMap} вміст виводиться за ключами.
      */
     private void printHashtable() {
-        System.out.println("\n=== Пари ключ-значення в Hashtable ===");
+        System.out.println("\n=== Пари ключ-значення в ScorpionHashMap ===");
         long timeStart = System.nanoTime();
 
         hashtable.entrySet().forEach(entry ->
@@ -147,7 +185,7 @@ public class BasicDataOperationUsingMap {
         );
 
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "виведення пари ключ-значення в ScorpionHashMap");
     }
 
     /**
@@ -163,60 +201,54 @@ public class BasicDataOperationUsingMap {
         );
 
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пари ключ-значення в TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "виведення пари ключ-значення в TreeMap");
     }
     /**
      * Сортує LinkedHashMap, HashMap, TreeMap за ключами.
      * Використовує Collections.sort() з природним порядком Scorpion (Scorpion.compareTo()).
-     * Перезаписує linkedHashMap відсортованими даними.
+     * Перезаписує linkedHashMap відсортованими даними, якщо вона ще не впорядкована
+     * за {@link #SCORPION_COMPARATOR}.
      */
-    private void sortLinkedHashMap() {
+    void sortLinkedHashMap() {
         long timeStart = System.nanoTime();
 
-        linkedHashMap = linkedHashMap.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey(SCORPION_COMPARATOR))
-            .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (e1, e2) -> e1,
-                    LinkedHashMap::new
-            ));
-
-        PerformanceTracker.displayOperationTime(timeStart, "сортування LinkedHashMap за ключами");
-    }
-
-    private void sortTreeMap() {
-        long timeStart = System.nanoTime();
-
-        treeMap = treeMap.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey(SCORPION_COMPARATOR))
-            .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (e1, e2) -> e1,
-                    () -> new TreeMap<>(SCORPION_COMPARATOR)
-            ));
+        if (!isSortedByScorpion(linkedHashMap)) {
+            linkedHashMap = linkedHashMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(SCORPION_COMPARATOR))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (e1, e2) -> e1,
+                        withSameIndexing(linkedHashMap, LinkedHashMap::new)
+                ));
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "сортування TreeMap за ключами");
+        PerformanceTracker.recordOperationTime(timeStart, "сортування LinkedHashMap за ключами");
     }
 
-    private void sortHashtable() {
+    /**
+     * Перебудовує TreeMap з {@link #SCORPION_COMPARATOR}, якщо вона впорядкована інакше;
+     * TreeMap з цим компаратором уже відсортована, і виклик нічого не змінює.
+     */
+    void sortTreeMap() {
         long timeStart = System.nanoTime();
 
-        hashtable = hashtable.entrySet().stream()
-            .sorted(Map.Entry.comparingByKey(SCORPION_COMPARATOR))
-            .collect(Collectors.toMap(
-                    Map.Entry::getKey,
-                    Map.Entry::getValue,
-                    (e1, e2) -> e1,
-                    Hashtable::new
-            ));
+        if (!isSortedByScorpion(treeMap)) {
+            treeMap = treeMap.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(SCORPION_COMPARATOR))
+                .collect(Collectors.toMap(
+                        Map.Entry::getKey,
+                        Map.Entry::getValue,
+                        (e1, e2) -> e1,
+                        withSameIndexing(treeMap, () -> new TreeMap<>(SCORPION_COMPARATOR))
+                ));
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "сортування Hashtable за ключами");
+        PerformanceTracker.recordOperationTime(timeStart, "сортування TreeMap за ключами");
     }
 
     /**
-     * Здійснює пошук елемента за ключем в Hashtable.
+     * Здійснює пошук елемента за ключем в ScorpionHashMap.
      * Використовує Scorpion.hashCode() та Scorpion.equals() для пошуку.
      */
     void findByKeyInHashtable() {
@@ -224,13 +256,13 @@ public class BasicDataOperationUsingMap {
 
         boolean found = hashtable.containsKey(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в ScorpionHashMap");
 
         if (found) {
             String value = hashtable.get(KEY_TO_SEARCH_AND_DELETE);
             System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' знайдено. Власник: " + value);
         } else {
-            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в Hashtable.");
+            System.out.println("Елемент з ключем '" + KEY_TO_SEARCH_AND_DELETE + "' відсутній в ScorpionHashMap.");
         }
     }
 
@@ -243,7 +275,7 @@ public class BasicDataOperationUsingMap {
 
         boolean found = treeMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в TreeMap");
 
         if (found) {
             String value = treeMap.get(KEY_TO_SEARCH_AND_DELETE);
@@ -254,14 +286,11 @@ public class BasicDataOperationUsingMap {
     }
 
     /**
-     * Здійснює пошук елемента за значенням в Hashtable.
+     * Здійснює пошук елемента за значенням в ScorpionHashMap.
      * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
      */
     void findByValueInHashtable() {
-        List<Scorpion> keysToRemove = hashtable.entrySet().stream()
-            .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        List<Scorpion> keysToRemove = findKeysByValue(hashtable, VALUE_TO_SEARCH_AND_DELETE);
 
         keysToRemove.forEach(hashtable::remove);
     }
@@ -271,36 +300,33 @@ public class BasicDataOperationUsingMap {
      * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
      */
     void findByValueInTreeMap() {
-        List<Scorpion> keysToRemove = treeMap.entrySet().stream()
-            .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        List<Scorpion> keysToRemove = findKeysByValue(treeMap, VALUE_TO_SEARCH_AND_DELETE);
 
         keysToRemove.forEach(treeMap::remove);
     }
 
     /**
-     * Додає новий запис до Hashtable.
+     * Додає новий запис до ScorpionHashMap.
      */
     void addEntryToHashtable() {
         long timeStart = System.nanoTime();
 
         hashtable.put(KEY_TO_ADD, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до ScorpionHashMap");
 
         System.out.println("Додано новий запис: Scorpion='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
 
     /**
-     * Видаляє запис з Hashtable за ключем.
+     * Видаляє запис з ScorpionHashMap за ключем.
      */
     void removeByKeyFromHashtable() {
         long timeStart = System.nanoTime();
 
         String removedValue = hashtable.remove(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з ScorpionHashMap");
 
         if (removedValue != null) {
             System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
@@ -310,20 +336,15 @@ public class BasicDataOperationUsingMap {
     }
 
     /**
-     * Видаляє записи з Hashtable за значенням.
+     * Видаляє записи з ScorpionHashMap за значенням.
      */
     void removeByValueFromHashtable() {
         long timeStart = System.nanoTime();
 
-        List<Scorpion> keysToRemove = hashtable.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-       
-        keysToRemove.forEach(hashtable::remove);
+        List<Scorpion> keysToRemove = removeKeysByValue(hashtable, VALUE_TO_SEARCH_AND_DELETE);
 
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з Hashtable");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з ScorpionHashMap");
 
         System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
     }
@@ -336,7 +357,7 @@ public class BasicDataOperationUsingMap {
 
         treeMap.put(KEY_TO_ADD, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до TreeMap");
 
         System.out.println("Додано новий запис: Scorpion='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
@@ -349,7 +370,7 @@ public class BasicDataOperationUsingMap {
 
         String removedValue = treeMap.remove(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з TreeMap");
 
         if (removedValue != null) {
             System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
@@ -364,15 +385,10 @@ public class BasicDataOperationUsingMap {
     void removeByValueFromTreeMap() {
         long timeStart = System.nanoTime();
 
-        List<Scorpion> keysToRemove = treeMap.entrySet().stream()
-                .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-       
-        keysToRemove.forEach(treeMap::remove);
+        List<Scorpion> keysToRemove = removeKeysByValue(treeMap, VALUE_TO_SEARCH_AND_DELETE);
 
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з TreeMap");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з TreeMap");
 
         System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
     }
@@ -393,7 +409,7 @@ public class BasicDataOperationUsingMap {
         );
 
 
-        PerformanceTracker.displayOperationTime(timeStart, "виведення пар ключ-значення в LinkedHashMap");
+        PerformanceTracker.recordOperationTime(timeStart, "виведення пар ключ-значення в LinkedHashMap");
     }
 
     /**
@@ -405,7 +421,7 @@ public class BasicDataOperationUsingMap {
 
         boolean found = linkedHashMap.containsKey(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук за ключем в LinkedHashMap");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук за ключем в LinkedHashMap");
 
         if (found) {
             String value = linkedHashMap.get(KEY_TO_SEARCH_AND_DELETE);
@@ -420,10 +436,7 @@ public class BasicDataOperationUsingMap {
      * Сортує список Map.Entry за значеннями та використовує бінарний пошук.
      */
     void findByValueInLinkedHashMap() {
-        List<Scorpion> keysToRemove = linkedHashMap.entrySet().stream()
-            .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
-            .map(Map.Entry::getKey)
-            .collect(Collectors.toList());
+        List<Scorpion> keysToRemove = findKeysByValue(linkedHashMap, VALUE_TO_SEARCH_AND_DELETE);
 
 
         keysToRemove.forEach(linkedHashMap::remove);
@@ -437,7 +450,7 @@ public class BasicDataOperationUsingMap {
 
         linkedHashMap.put(KEY_TO_ADD, VALUE_TO_ADD);
 
-        PerformanceTracker.displayOperationTime(timeStart, "додавання запису до LinkedHashMap");
+        PerformanceTracker.recordOperationTime(timeStart, "додавання запису до LinkedHashMap");
 
         System.out.println("Додано новий запис: Scorpion='" + KEY_TO_ADD + "', власник='" + VALUE_TO_ADD + "'");
     }
@@ -450,7 +463,7 @@ public class BasicDataOperationUsingMap {
 
         String removedValue = linkedHashMap.remove(KEY_TO_SEARCH_AND_DELETE);
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за ключем з LinkedHashMap");
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за ключем з LinkedHashMap");
 
         if (removedValue != null) {
             System.out.println("Видалено запис з ключем '" + KEY_TO_SEARCH_AND_DELETE + "'. Власник був: " + removedValue);
@@ -465,63 +478,169 @@ public class BasicDataOperationUsingMap {
     void removeByValueFromLinkedHashMap() {
         long timeStart = System.nanoTime();
 
-        List<Scorpion> keysToRemove = linkedHashMap.entrySet().stream()
-            .filter(entry -> entry.getValue() != null && entry.getValue().equals(VALUE_TO_SEARCH_AND_DELETE))
+        List<Scorpion> keysToRemove = removeKeysByValue(linkedHashMap, VALUE_TO_SEARCH_AND_DELETE);
+
+        PerformanceTracker.recordOperationTime(timeStart, "видалення за значенням з LinkedHashMap");
+
+        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    }
+
+    // ===== Допоміжні методи =====
+
+    /**
+     * Знаходить ключі записів із заданим значенням: через зворотний індекс, якщо Map його має,
+     * інакше переглядом усіх записів.
+     */
+    private static List<Scorpion> findKeysByValue(Map<Scorpion, String> map, String value) {
+        if (map instanceof ReverseIndexedMap<Scorpion, String> indexed) {
+            return List.copyOf(indexed.keysForValue(value));
+        }
+        return map.entrySet().stream()
+            .filter(entry -> entry.getValue() != null && entry.getValue().equals(value))
             .map(Map.Entry::getKey)
             .collect(Collectors.toList());
-       
-        keysToRemove.forEach(hashtable::remove);
+    }
 
-        PerformanceTracker.displayOperationTime(timeStart, "видалення за значенням з LinkedHashMap");
+    /**
+     * Видаляє записи із заданим значенням і повертає їхні ключі.
+     */
+    static List<Scorpion> removeKeysByValue(Map<Scorpion, String> map, String value) {
+        if (map instanceof ReverseIndexedMap<Scorpion, String> indexed) {
+            return indexed.removeByValue(value);
+        }
+        List<Scorpion> keys = findKeysByValue(map, value);
+        keys.forEach(map::remove);
+        return keys;
+    }
 
-        System.out.println("Видалено " + keysToRemove.size() + " записів з власником '" + VALUE_TO_SEARCH_AND_DELETE + "'");
+    /**
+     * Повертає фабрику Map для перебудови: обгорнуту {@link ReverseIndexedMap}, якщо поточна
+     * Map має зворотний індекс.
+     */
+    private static Supplier<Map<Scorpion, String>> withSameIndexing(Map<Scorpion, String> current, Supplier<Map<Scorpion, String>> factory) {
+        if (current instanceof ReverseIndexedMap) {
+            return () -> new ReverseIndexedMap<>(factory.get());
+        }
+        return factory;
+    }
+
+    /**
+     * Перевіряє, чи обхід Map уже йде за {@link #SCORPION_COMPARATOR}.
+     */
+    private static boolean isSortedByScorpion(Map<Scorpion, String> map) {
+        if (map instanceof ReverseIndexedMap<Scorpion, String> indexed) {
+            return isSortedByScorpion(indexed.delegate());
+        }
+        if (map instanceof SortedKeyViewMap<Scorpion, String> view) {
+            return view.comparator() == SCORPION_COMPARATOR;
+        }
+        return map instanceof SortedMap<Scorpion, String> sorted && sorted.comparator() == SCORPION_COMPARATOR;
+    }
+
+    /**
+     * Виводить оцінку пам'яті зворотного індексу, якщо Map його має.
+     */
+    private static void reportReverseIndex(Map<Scorpion, String> map) {
+        if (map instanceof ReverseIndexedMap<Scorpion, String> indexed) {
+            System.out.printf("Зворотний індекс власників: %d різних значень, ~%.1f КБ%n",
+                    indexed.distinctValueCount(), indexed.estimatedIndexBytes() / 1024.0);
+        }
     }
 
     /**
      * Головний метод для запуску програми.
+     * 
+     * Дані завантажуються з файлу {@link #PATH_TO_DATA_FILE} або з файлу, вказаного
+     * аргументом, одним розбором для всіх трьох Map ({@link ScorpionDatasetLoader}).
+     * З {@code --warmup=M} і {@code --repeat=N} аналіз виконується M разів без запису тривалостей
+     * і N разів із записом; операції змінюють Map, тож кожен запуск завантажує дані заново.
+     *
+     * За замовчуванням Map використовуються без обгорток. {@code --sorted-view=} вмикає
+     * {@link SortedKeyViewMap} для вказаних хеш-Map, а {@code --reverse-index=} - {@link ReverseIndexedMap}
+     * для вказаних Map: обгортки прискорюють обхід за ключами і операції за значенням, але кожен put
+     * і remove тоді оновлює й їхні індекси, а LinkedHashMap обходиться за ключами, а не в порядку вставлення.
      */
     public static void main(String[] args) {
-        
-        TreeMap<Scorpion, String> treeMap = new TreeMap<>(SCORPION_COMPARATOR);
-        treeMap.put(new Scorpion("Шип", 8.5), "Орест");
-        treeMap.put(new Scorpion("Жало", 7.2), "Зоряна");
-        treeMap.put(new Scorpion("Клеш", 9.1), "Макар");
-        treeMap.put(new Scorpion("Панцир", 6.8), "Іринка");
-        treeMap.put(new Scorpion("Жало", 7.8), "Демид");
-        treeMap.put(new Scorpion("Хвіст", 5.9), "Макар");
-        treeMap.put(new Scorpion("Терен", 8.2), "Оксана");
-        treeMap.put(new Scorpion("Скорп", 6.5), "Юхим");
-        treeMap.put(new Scorpion("Ракун", 7.1), "Зоряна");
-        treeMap.put(new Scorpion("Оса", 5.5), "Ярина");
-
-        // Створюємо початкові дані (ключ: Scorpion, значення: ім'я власника)
-        Hashtable<Scorpion, String> hashtable = new Hashtable<>();
-        hashtable.put(new Scorpion("Шип", 8.5), "Орест");
-        hashtable.put(new Scorpion("Жало", 7.2), "Зоряна");
-        hashtable.put(new Scorpion("Клеш", 9.1), "Макар");
-        hashtable.put(new Scorpion("Панцир", 6.8), "Іринка");
-        hashtable.put(new Scorpion("Жало", 7.8), "Демид");
-        hashtable.put(new Scorpion("Хвіст", 5.9), "Макар");
-        hashtable.put(new Scorpion("Терен", 8.2), "Оксана");
-        hashtable.put(new Scorpion("Скорп", 6.5), "Юхим");
-        hashtable.put(new Scorpion("Ракун", 7.1), "Зоряна");
-        hashtable.put(new Scorpion("Оса", 5.5), "Ярина");
-        
-        LinkedHashMap<Scorpion, String> linkedHashMap = new LinkedHashMap<Scorpion, String>() {{
-        put(new Scorpion("Шип", 8.5), "Орест");
-        put(new Scorpion("Жало", 7.2), "Зоряна");
-        put(new Scorpion("Клеш", 9.1), "Макар");
-        put(new Scorpion("Панцир", 6.8), "Іринка");
-        put(new Scorpion("Жало", 7.8), "Демид");
-        put(new Scorpion("Хвіст", 5.9), "Макар");
-        put(new Scorpion("Терен", 8.2), "Оксана");
-        put(new Scorpion("Скорп", 6.5), "Юхим");
-        put(new Scorpion("Ракун", 7.1), "Зоряна");
-        put(new Scorpion("Оса", 5.5), "Ярина");
-        }};
-
-        // Створюємо об'єкт і виконуємо операції
-        BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(hashtable, linkedHashMap, treeMap);
-        operations.executeDataOperations();
+        String filePath = PATH_TO_DATA_FILE;
+        int warmupRuns = 0;
+        int measuredRuns = 1;
+        Set<MapSlot> sortedViews = EnumSet.noneOf(MapSlot.class);
+        Set<MapSlot> reverseIndexes = EnumSet.noneOf(MapSlot.class);
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(BasicDataOperation.WARMUP_OPTION)) {
+                    warmupRuns = Integer.parseInt(arg.substring(BasicDataOperation.WARMUP_OPTION.length()));
+                } else if (arg.startsWith(BasicDataOperation.REPEAT_OPTION)) {
+                    measuredRuns = Integer.parseInt(arg.substring(BasicDataOperation.REPEAT_OPTION.length()));
+                } else if (arg.startsWith(SORTED_VIEW_OPTION)) {
+                    sortedViews.addAll(parseMapSlots(arg.substring(SORTED_VIEW_OPTION.length())));
+                } else if (arg.startsWith(REVERSE_INDEX_OPTION)) {
+                    reverseIndexes.addAll(parseMapSlots(arg.substring(REVERSE_INDEX_OPTION.length())));
+                } else {
+                    filePath = arg;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Помилка: " + e.getMessage() + "\n" + USAGE_MESSAGE);
+            return;
+        }
+        if (warmupRuns < 0 || measuredRuns < 1) {
+            System.out.println(USAGE_MESSAGE);
+            return;
+        }
+        if (sortedViews.contains(MapSlot.TREE_MAP)) {
+            System.out.println("Помилка: TreeMap уже впорядкована за ключами і не потребує відсортованого вигляду");
+            return;
+        }
+
+        String dataFilePath = filePath;
+        BasicDataOperation.runMeasured(warmupRuns, measuredRuns, () -> {
+            ScorpionDatasetLoader.LoadResult dataset = ScorpionDatasetLoader.load(dataFilePath);
+            ScorpionDatasetLoader.printLoadReport(dataFilePath, dataset);
+
+            // Створюємо об'єкт з обраними обгортками і виконуємо операції
+            BasicDataOperationUsingMap operations = new BasicDataOperationUsingMap(
+                    wrap(dataset.hashtable(), MapSlot.HASHTABLE, sortedViews, reverseIndexes),
+                    wrap(dataset.linkedHashMap(), MapSlot.LINKED_HASH_MAP, sortedViews, reverseIndexes),
+                    wrap(dataset.treeMap(), MapSlot.TREE_MAP, sortedViews, reverseIndexes));
+            operations.executeDataOperations();
+        });
+        PerformanceTracker.printReport();
+    }
+
+    private static Set<MapSlot> parseMapSlots(String optionValue) {
+        Set<MapSlot> slots = EnumSet.noneOf(MapSlot.class);
+        for (String optionName : optionValue.split(",")) {
+            slots.add(MapSlot.fromOptionName(optionName.trim()));
+        }
+        return slots;
+    }
+
+    /**
+     * Обгортає завантажену Map обраними обгортками. Обгортки будують свої індекси над усіма
+     * записами, тож тривалість обгортання записується і виводиться поруч з тривалістю побудови Map.
+     */
+    private static Map<Scorpion, String> wrap(Map<Scorpion, String> map, MapSlot slot,
+            Set<MapSlot> sortedViews, Set<MapSlot> reverseIndexes) {
+        if (!sortedViews.contains(slot) && !reverseIndexes.contains(slot)) {
+            return map;
+        }
+
+        long timeStart = System.nanoTime();
+
+        Map<Scorpion, String> wrapped = map;
+        if (sortedViews.contains(slot)) {
+            wrapped = new SortedKeyViewMap<>(wrapped, SCORPION_COMPARATOR);
+        }
+        if (reverseIndexes.contains(slot)) {
+            wrapped = new ReverseIndexedMap<>(wrapped);
+        }
+
+        long wrapNanos = System.nanoTime() - timeStart;
+        PerformanceTracker.recordOperationTime(timeStart, "завантаження Scorpion: обгортки " + slot.displayName);
+        System.out.printf("Обгортки %s (%s): %.1f мс%n", slot.displayName,
+                sortedViews.contains(slot) && reverseIndexes.contains(slot) ? "SortedKeyViewMap, ReverseIndexedMap"
+                        : sortedViews.contains(slot) ? "SortedKeyViewMap" : "ReverseIndexedMap", wrapNanos / 1e6);
+        return wrapped;
     }
 }
@@ -1,9 +1,6 @@
 
-import java.util.Queue;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.PriorityQueue;
 
 /**
  * Клас BasicDataOperationUsingQueue реалізує роботу з колекціями типу Queue для float.
@@ -11,30 +8,42 @@ import java.util.PriorityQueue;
  * <p>Основні функції класу:</p>
  * <ul>
  *   <li>{@link #runDataProcessing()} - Запускає комплекс операцій з даними.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив float.</li>
+ *   <li>{@link #useSortedOrder()} - Переводить масив на відсортовані значення індексу набору.</li>
  *   <li>{@link #findInArray()} - Пошук значення в масиві float.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить мінімальне і максимальне значення в масиві.</li>
+ *   <li>{@link #countInRangeInArray()} - Підраховує значення масиву в околі шуканого.</li>
  *   <li>{@link #findInQueue()} - Пошук значення в черзі float.</li>
  *   <li>{@link #locateMinMaxInQueue()} - Знаходить граничні значення в черзі.</li>
- *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з чергою.</li>
+ *   <li>{@link #performQueueOperations()} - Виконує операції peek і poll з обох кінців черги.</li>
  * </ul>
- * 
+ *
+ * <p>Черга зберігається у двосторонній купі {@link FloatMinMaxHeap}: обидва кінці доступні
+ * за O(1), а вилучення з будь-якого кінця виконується за O(log n). Пошуки спершу перевіряють
+ * фільтр Блума набору, тож промах не переглядає ні черги, ні індексу.</p>
  */
 public class BasicDataOperationUsingQueue {
     private float floatValueToSearch;
-    private Float[] floatArray;
-    private Queue<Float> dateTimeQueue;
+    private float[] floatArray;
+    private FloatSortedIndex sortedIndex;
+    private boolean arraySorted;
+    private FloatMinMaxHeap dateTimeQueue;
+    private FloatBloomFilter bloomFilter;
+    private FloatZoneMap zoneMap;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param floatValueToSearch Значення для пошуку
-     * @param floatArray Масив float
+     * @param dataset Набір даних float з підготовленими артефактами
      */
-    BasicDataOperationUsingQueue(float floatValueToSearch, Float[] floatArray) {
+    BasicDataOperationUsingQueue(float floatValueToSearch, FloatDataset dataset) {
+        float[] floatArray = dataset.values();
         this.floatValueToSearch = floatValueToSearch;
         this.floatArray = floatArray;
-        this.dateTimeQueue = new PriorityQueue<>(Arrays.asList(floatArray));
+        this.sortedIndex = dataset.sortedIndex();
+        this.dateTimeQueue = FloatMinMaxHeap.heapify(floatArray);
+        this.bloomFilter = dataset.bloomFilter();
+        this.zoneMap = dataset.zoneMap();
     }
     
     /**
@@ -51,27 +60,20 @@ public class BasicDataOperationUsingQueue {
         // потім працюємо з масивом
         findInArray();
         locateMinMaxInArray();
+        countInRangeInArray();
 
-        performArraySorting();
+        useSortedOrder();
 
         findInArray();
         locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(floatArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
     /**
-     * Сортує масив об'єктiв float та виводить початковий i вiдсортований масиви.
-     * Вимiрює та виводить час, витрачений на сортування масиву в наносекундах.
+     * Переводить масив на відсортовані значення індексу набору без повторного сортування.
      */
-    private void performArraySorting() {
-        // вимірюємо тривалість упорядкування масиву дати та часу
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(floatArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+    private void useSortedOrder() {
+        floatArray = sortedIndex.sortedValues();
+        arraySorted = true;
     }
 
     /**
@@ -81,9 +83,25 @@ public class BasicDataOperationUsingQueue {
         // відстежуємо час виконання пошуку в масиві
         long timeStart = System.nanoTime();
         
-        int position = Arrays.binarySearch(this.floatArray, floatValueToSearch);
+        // перше входження: у відсортованому масиві - за індексом, у вихідному порядку -
+        // переглядом лише тих блоків, діапазон яких може містити значення
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        FloatZoneMap.SearchResult zoneSearch = null;
+        int position;
+        if (!mightContain) {
+            position = -1;
+        } else if (arraySorted) {
+            position = sortedIndex.indexOf(floatValueToSearch);
+        } else {
+            zoneSearch = zoneMap.firstPosition(floatValueToSearch);
+            position = zoneSearch.position();
+        }
         
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        FloatBloomFilter.recordLookup(mightContain, position >= 0);
+        if (zoneSearch != null) {
+            FloatZoneMap.recordBlocks(zoneSearch.blocksScanned(), zoneSearch.blocksSkipped());
+        }
 
         if (position >= 0) {
             System.out.println("Елемент '" + floatValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -92,6 +110,23 @@ public class BasicDataOperationUsingQueue {
         }
     }
 
+    /**
+     * Підраховує значення масиву в околі шуканого значення двома бінарними пошуками
+     * у відсортованому індексі: кількість від порядку масиву не залежить.
+     */
+    private void countInRangeInArray() {
+        float lower = floatValueToSearch - FloatDataset.RANGE_HALF_WIDTH;
+        float upper = floatValueToSearch + FloatDataset.RANGE_HALF_WIDTH;
+
+        long timeStart = System.nanoTime();
+
+        int count = sortedIndex.countInRange(lower, upper);
+
+        PerformanceTracker.recordOperationTime(timeStart, "підрахунок елементів масиву в діапазоні");
+
+        System.out.println("Кiлькiсть елементiв масиву в діапазоні [" + lower + ", " + upper + "]: " + count);
+    }
+
     /**
      * Визначає найменше та найбільше значення в масиві float.
      */
@@ -104,19 +139,11 @@ public class BasicDataOperationUsingQueue {
         // відстежуємо час на визначення граничних значень
         long timeStart = System.nanoTime();
 
-        float minValue = floatArray[0];
-        float maxValue = floatArray[0];
+        FloatMinMaxKernel.MinMax minMax = FloatMinMaxKernel.of(floatArray);
+        float minValue = minMax.min();
+        float maxValue = minMax.max();
 
-        for (float currentDateTime : floatArray) {
-            if (floatValueToSearch < minValue) {
-                minValue = currentDateTime;
-            }
-            if (floatValueToSearch > maxValue) {
-                maxValue = currentDateTime;
-            }
-        }
-
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
 
         System.out.println("Найменше значення в масивi: " + minValue);
         System.out.println("Найбільше значення в масивi: " + maxValue);
@@ -125,15 +152,16 @@ public class BasicDataOperationUsingQueue {
     /**
      * Здійснює пошук конкретного значення в черзі дати та часу.
      */
-    private void findInQueue() {
+    void findInQueue() {
         // вимірюємо час пошуку в черзі
         long timeStart = System.nanoTime();
 
-        boolean elementExists = dateTimeQueue.stream()
-            .anyMatch(dateTime -> dateTime.equals(floatValueToSearch));
-
+        // фільтр побудовано за всім набором, тож і після вилучень він лишається надмножиною черги
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        boolean elementExists = mightContain && dateTimeQueue.contains(floatValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в Queue дати i часу");
+        FloatBloomFilter.recordLookup(mightContain, elementExists);
 
         if (elementExists) {
             System.out.println("Елемент '" + floatValueToSearch + "' знайдено в Queue");
@@ -144,6 +172,7 @@ public class BasicDataOperationUsingQueue {
 
     /**
      * Визначає найменше та найбільше значення в черзі float.
+     * Обидва значення лежать на вершині купи, тож черга не переглядається.
      */
     private void locateMinMaxInQueue() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
@@ -154,22 +183,18 @@ public class BasicDataOperationUsingQueue {
         // відстежуємо час пошуку граничних значень
         long timeStart = System.nanoTime();
 
-        float minValue = dateTimeQueue.stream()
-            .min(Float::compareTo)
-            .orElse(null);
-       
-        float maxValue = dateTimeQueue.stream()
-            .max(Float::compareTo)
-            .orElse(null);
+        float minValue = dateTimeQueue.peekMin();
+        float maxValue = dateTimeQueue.peekMax();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в Queue");
 
         System.out.println("Найменше значення в Queue: " + minValue);
         System.out.println("Найбільше значення в Queue: " + maxValue);
     }
 
     /**
-     * Виконує операції peek і poll з чергою float.
+     * Виконує операції peek і poll з чергою float: з голови (найменше значення)
+     * та з кінця (найбільше значення), як у робочому буфері, що споживається з обох боків.
      */
     private void performQueueOperations() {
         if (dateTimeQueue == null || dateTimeQueue.isEmpty()) {
@@ -177,13 +202,28 @@ public class BasicDataOperationUsingQueue {
             return;
         }
 
-        float headElement = dateTimeQueue.peek();
+        float headElement = dateTimeQueue.peekMin();
         System.out.println("Головний елемент черги (peek): " + headElement);
 
-        headElement = dateTimeQueue.poll();
+        headElement = dateTimeQueue.pollMin();
         System.out.println("Видалений елемент черги (poll): " + headElement);
 
-        headElement = dateTimeQueue.peek();
+        if (dateTimeQueue.isEmpty()) {
+            System.out.println("Черга стала пустою.");
+            return;
+        }
+
+        headElement = dateTimeQueue.peekMin();
         System.out.println("Новий головний елемент черги: " + headElement);
+
+        float tailElement = dateTimeQueue.peekMax();
+        System.out.println("Останній елемент черги (peekMax): " + tailElement);
+
+        tailElement = dateTimeQueue.pollMax();
+        System.out.println("Видалений з кінця черги елемент (pollMax): " + tailElement);
+
+        if (!dateTimeQueue.isEmpty()) {
+            System.out.println("Новий останній елемент черги: " + dateTimeQueue.peekMax());
+        }
     }
 }
\ No newline at end of file
@@ -1,19 +1,21 @@
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 /**
- * Клас BasicDataOperationUsingSet реалізує операції з множиною LinkedHashSet для float.
+ * Клас BasicDataOperationUsingSet реалізує операції з множиною FloatHashSet для float.
+ * 
+ * <p>Множина зберігає примітивні float з порядком вставлення, як LinkedHashSet,
+ * але без упакування значень і без зв'язаних записів. Пошуки спершу перевіряють фільтр Блума
+ * набору, тож промах не звертається ні до множини, ні до індексу.</p>
  * 
  * <p>Методи класу:</p>
  * <ul>
  *   <li>{@link #executeDataAnalysis()} - Запускає аналіз даних.</li>
- *   <li>{@link #performArraySorting()} - Упорядковує масив float.</li>
+ *   <li>{@link #useSortedOrder()} - Переводить масив на відсортовані значення індексу набору.</li>
  *   <li>{@link #findInArray()} - Пошук значення в масиві float.</li>
  *   <li>{@link #locateMinMaxInArray()} - Знаходить граничні значення в масиві.</li>
+ *   <li>{@link #countInRangeInArray()} - Підраховує значення масиву в околі шуканого.</li>
  *   <li>{@link #findInSet()} - Пошук значення в множині float.</li>
  *   <li>{@link #locateMinMaxInSet()} - Знаходить мінімальне і максимальне значення в множині.</li>
  *   <li>{@link #analyzeArrayAndSet()} - Аналізує елементи масиву та множини.</li>
@@ -21,23 +23,31 @@ import java.util.Set;
  */
 public class BasicDataOperationUsingSet {
     float floatValueToSearch;
-    Float[] floatArray;
-    Set<Float> dateTimeSet = new LinkedHashSet<>();
+    float[] floatArray;
+    FloatSortedIndex sortedIndex;
+    boolean arraySorted;
+    FloatHashSet dateTimeSet;
+    FloatBloomFilter bloomFilter;
+    FloatZoneMap zoneMap;
 
     /**
      * Конструктор, який iнiцiалiзує об'єкт з готовими даними.
      * 
      * @param floatValueToSearch Значення для пошуку
-     * @param floatArray Масив float
+     * @param dataset Набір даних float з підготовленими артефактами
      */
-    BasicDataOperationUsingSet(float floatValueToSearch, Float[] floatArray) {
+    BasicDataOperationUsingSet(float floatValueToSearch, FloatDataset dataset) {
+        float[] floatArray = dataset.values();
         this.floatValueToSearch = floatValueToSearch;
         this.floatArray = floatArray;
-        this.dateTimeSet = new LinkedHashSet<>(Arrays.asList(floatArray));
+        this.sortedIndex = dataset.sortedIndex();
+        this.dateTimeSet = FloatHashSet.of(floatArray, true);
+        this.bloomFilter = dataset.bloomFilter();
+        this.zoneMap = dataset.zoneMap();
     }
     
     /**
-     * Запускає комплексний аналіз даних з використанням множини LinkedHashSet.
+     * Запускає комплексний аналіз даних з використанням множини FloatHashSet.
      * 
      * Метод завантажує дані, виконує операції з множиною та масивом float.
      */
@@ -50,26 +60,20 @@ public class BasicDataOperationUsingSet {
         // потім обробляємо масив
         findInArray();
         locateMinMaxInArray();
+        countInRangeInArray();
 
-        performArraySorting();
+        useSortedOrder();
 
         findInArray();
         locateMinMaxInArray();
-
-        // зберігаємо відсортований масив до файлу
-        DataFileHandler.writeArrayToFile(floatArray, BasicDataOperation.PATH_TO_DATA_FILE + ".sorted");
     }
 
     /**
-     * Упорядковує масив об'єктів float за зростанням.
-     * Фіксує та виводить тривалість операції сортування в наносекундах.
+     * Переводить масив на відсортовані значення індексу набору без повторного сортування.
      */
-    private void performArraySorting() {
-        long timeStart = System.nanoTime();
-
-        Arrays.sort(floatArray);
-
-        PerformanceTracker.displayOperationTime(timeStart, "упорядкування масиву дати i часу");
+    private void useSortedOrder() {
+        floatArray = sortedIndex.sortedValues();
+        arraySorted = true;
     }
 
     /**
@@ -78,9 +82,25 @@ public class BasicDataOperationUsingSet {
     private void findInArray() {
         long timeStart = System.nanoTime();
 
-        int position = Arrays.binarySearch(this.floatArray, floatValueToSearch);
+        // перше входження: у відсортованому масиві - за індексом, у вихідному порядку -
+        // переглядом лише тих блоків, діапазон яких може містити значення
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        FloatZoneMap.SearchResult zoneSearch = null;
+        int position;
+        if (!mightContain) {
+            position = -1;
+        } else if (arraySorted) {
+            position = sortedIndex.indexOf(floatValueToSearch);
+        } else {
+            zoneSearch = zoneMap.firstPosition(floatValueToSearch);
+            position = zoneSearch.position();
+        }
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi дати i часу");
+        FloatBloomFilter.recordLookup(mightContain, position >= 0);
+        if (zoneSearch != null) {
+            FloatZoneMap.recordBlocks(zoneSearch.blocksScanned(), zoneSearch.blocksSkipped());
+        }
 
         if (position >= 0) {
             System.out.println("Елемент '" + floatValueToSearch + "' знайдено в масивi за позицією: " + position);
@@ -89,6 +109,23 @@ public class BasicDataOperationUsingSet {
         }
     }
 
+    /**
+     * Підраховує значення масиву в околі шуканого значення двома бінарними пошуками
+     * у відсортованому індексі: кількість від порядку масиву не залежить.
+     */
+    private void countInRangeInArray() {
+        float lower = floatValueToSearch - FloatDataset.RANGE_HALF_WIDTH;
+        float upper = floatValueToSearch + FloatDataset.RANGE_HALF_WIDTH;
+
+        long timeStart = System.nanoTime();
+
+        int count = sortedIndex.countInRange(lower, upper);
+
+        PerformanceTracker.recordOperationTime(timeStart, "підрахунок елементів масиву в діапазоні");
+
+        System.out.println("Кiлькiсть елементiв масиву в діапазоні [" + lower + ", " + upper + "]: " + count);
+    }
+
     /**
      * Визначає найменше та найбільше значення в масиві float.
      */
@@ -100,19 +137,11 @@ public class BasicDataOperationUsingSet {
 
         long timeStart = System.nanoTime();
 
-        float minValue = floatArray[0];
-        float maxValue = floatArray[0];
-
-        for (float currentDateTime : floatArray) {
-            if (floatValueToSearch < minValue) {
-                minValue = currentDateTime;
-            }
-            if (floatValueToSearch > maxValue) {
-                maxValue = currentDateTime;
-            }
-        }
+        FloatMinMaxKernel.MinMax minMax = FloatMinMaxKernel.of(floatArray);
+        float minValue = minMax.min();
+        float maxValue = minMax.max();
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в масивi");
 
         System.out.println("Найменше значення в масивi: " + minValue);
         System.out.println("Найбільше значення в масивi: " + maxValue);
@@ -121,18 +150,19 @@ public class BasicDataOperationUsingSet {
     /**
      * Здійснює пошук конкретного значення в множині дати та часу.
      */
-    private void findInSet() {
+    void findInSet() {
         long timeStart = System.nanoTime();
 
-        boolean elementExists = dateTimeSet.stream()
-            .anyMatch(dateTime -> dateTime.equals(floatValueToSearch));
+        boolean mightContain = bloomFilter.mightContain(floatValueToSearch);
+        boolean elementExists = mightContain && dateTimeSet.contains(floatValueToSearch);
 
-        PerformanceTracker.displayOperationTime(timeStart, "пошук елемента в LinkedHashSet дати i часу");
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в FloatHashSet дати i часу");
+        FloatBloomFilter.recordLookup(mightContain, elementExists);
 
         if (elementExists) {
-            System.out.println("Елемент '" + floatValueToSearch + "' знайдено в LinkedHashSet");
+            System.out.println("Елемент '" + floatValueToSearch + "' знайдено в FloatHashSet");
         } else {
-            System.out.println("Елемент '" + floatValueToSearch + "' відсутній в LinkedHashSet.");
+            System.out.println("Елемент '" + floatValueToSearch + "' відсутній в FloatHashSet.");
         }
     }
 
@@ -141,42 +171,44 @@ public class BasicDataOperationUsingSet {
      */
     private void locateMinMaxInSet() {
         if (dateTimeSet == null || dateTimeSet.isEmpty()) {
-            System.out.println("LinkedHashSet є пустим або не ініціалізованим.");
+            System.out.println("FloatHashSet є пустим або не ініціалізованим.");
             return;
         }
 
         long timeStart = System.nanoTime();
 
-        float minValue = dateTimeSet.stream()
-                .min(Float::compareTo)
-                .orElse(null);
-       
-        float maxValue = dateTimeSet.stream()
-                .max(Float::compareTo)
-                .orElse(null);
+        FloatMinMaxKernel.Accumulator accumulator = new FloatMinMaxKernel.Accumulator();
+        dateTimeSet.forEach(accumulator);
+        FloatMinMaxKernel.MinMax minMax = accumulator.result();
+        float minValue = minMax.min();
+        float maxValue = minMax.max();
 
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в FloatHashSet");
 
-        PerformanceTracker.displayOperationTime(timeStart, "визначення мiнiмальної i максимальної дати в LinkedHashSet");
-
-        System.out.println("Найменше значення в LinkedHashSet: " + minValue);
-        System.out.println("Найбільше значення в LinkedHashSet: " + maxValue);
+        System.out.println("Найменше значення в FloatHashSet: " + minValue);
+        System.out.println("Найбільше значення в FloatHashSet: " + maxValue);
     }
 
     /**
      * Аналізує та порівнює елементи масиву та множини.
      */
-    private void analyzeArrayAndSet() {
+    void analyzeArrayAndSet() {
         System.out.println("Кiлькiсть елементiв в масивi: " + floatArray.length);
-        System.out.println("Кiлькiсть елементiв в LinkedHashSet: " + dateTimeSet.size());
+        System.out.println("Кiлькiсть елементiв в FloatHashSet: " + dateTimeSet.size());
 
-        boolean allElementsPresent = Arrays.stream(floatArray)
-            .allMatch(dateTimeSet::contains);
+        boolean allElementsPresent = true;
+        for (float value : floatArray) {
+            if (!dateTimeSet.contains(value)) {
+                allElementsPresent = false;
+                break;
+            }
+        }
 
 
         if (allElementsPresent) {
-            System.out.println("Всi елементи масиву наявні в LinkedHashSet.");
+            System.out.println("Всi елементи масиву наявні в FloatHashSet.");
         } else {
-            System.out.println("Не всi елементи масиву наявні в LinkedHashSet.");
+            System.out.println("Не всi елементи масиву наявні в FloatHashSet.");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Клас BatchQueryProcessor відповідає на всі запити з файлу за один запуск.
+ *
+ * <p>Запити сортуються один раз і зливаються з відсортованим індексом набору даних:
+ * кожен наступний пошук починається з позиції попереднього
+ * ({@link FloatSortedIndex#lowerBound(float, int)}), а однакові запити обчислюються один раз.
+ * Результати записуються у файл {@code <файл запитів>.results} у порядку запитів, по рядку
+ * на запит: значення, позиція першого входження у вихідному файлі (або -1) та ознака
+ * знаходження, розділені {@code ;}.</p>
+ */
+class BatchQueryProcessor {
+    static final String RESULTS_SUFFIX = ".results";
+    private static final int BLOCK_SIZE = 1 << 16;
+    // значення float, позиція int, ознака та роздільники з запасом
+    private static final int MAX_LINE_LENGTH = 64;
+    private static final byte[] FOUND = ";true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NOT_FOUND = ";false".getBytes(StandardCharsets.US_ASCII);
+
+    private final FloatSortedIndex sortedIndex;
+
+    /**
+     * Результат пакетного пошуку.
+     *
+     * @param queries Запити у порядку файлу
+     * @param positions Позиція першого входження кожного запиту у вихідному масиві або -1
+     * @param foundCount Кількість знайдених запитів
+     * @param distinctCount Кількість різних значень серед запитів
+     */
+    record BatchResult(float[] queries, int[] positions, int foundCount, int distinctCount) {}
+
+    /**
+     * @param sortedIndex Відсортований індекс набору даних
+     */
+    BatchQueryProcessor(FloatSortedIndex sortedIndex) {
+        this.sortedIndex = sortedIndex;
+    }
+
+    /**
+     * Завантажує запити, відповідає на них, записує результати у фоні та виводить
+     * кількість запитів за секунду.
+     *
+     * @param queriesPath Шлях до файлу запитів, по одному значенню float у рядку
+     */
+    void run(String queriesPath) {
+        System.out.println("📦 ПАКЕТНИЙ ПОШУК ЗАПИТІВ З ФАЙЛУ " + queriesPath);
+        System.out.println("-".repeat(50));
+
+        long timeStart = System.nanoTime();
+        float[] queries = DataFileHandler.loadFloatsFromFile(queriesPath);
+        PerformanceTracker.recordOperationTime(timeStart, "завантаження запитів");
+
+        long joinStart = System.nanoTime();
+        BatchResult result = answer(queries);
+        long joinNanos = System.nanoTime() - joinStart;
+        long totalNanos = System.nanoTime() - timeStart;
+        PerformanceTracker.recordOperationTime(joinStart, "пакетний пошук злиттям");
+
+        String resultsPath = queriesPath + RESULTS_SUFFIX;
+        DataFileHandler.submitWrite("запис результатів " + resultsPath, () -> writeResults(result, Path.of(resultsPath)));
+
+        System.out.println("Запитів: " + queries.length + " (різних: " + result.distinctCount()
+                + "), знайдено: " + result.foundCount() + ", не знайдено: " + (queries.length - result.foundCount()));
+        System.out.printf("Сортування і злиття: %d нс, %.0f запитів/с%n", joinNanos, queriesPerSecond(queries.length, joinNanos));
+        System.out.printf("З урахуванням завантаження запитів: %d нс, %.0f запитів/с%n", totalNanos, queriesPerSecond(queries.length, totalNanos));
+        System.out.println("Результати записуються у файл: " + resultsPath);
+    }
+
+    /**
+     * Відповідає на всі запити одним проходом злиття по відсортованому індексу.
+     *
+     * @param queries Запити у довільному порядку; масив не змінюється
+     * @return Позиції та підсумки у порядку запитів
+     */
+    BatchResult answer(float[] queries) {
+        int[] order = FloatSortEngine.sortedPositions(queries);
+
+        int[] positions = new int[queries.length];
+        int foundCount = 0;
+        int distinctCount = 0;
+        int dataIndex = 0;
+        int position = -1;
+        int previousBits = 0;
+        for (int queryIndex : order) {
+            int bits = FloatSortedIndex.sortableBits(queries[queryIndex]);
+            if (distinctCount == 0 || bits != previousBits) {
+                float value = queries[queryIndex];
+                dataIndex = sortedIndex.lowerBound(value, dataIndex);
+                position = dataIndex < sortedIndex.size() && Float.compare(sortedIndex.valueAt(dataIndex), value) == 0
+                        ? sortedIndex.positionAt(dataIndex)
+                        : -1;
+                previousBits = bits;
+                distinctCount++;
+            }
+            positions[queryIndex] = position;
+            if (position >= 0) {
+                foundCount++;
+            }
+        }
+        return new BatchResult(queries, positions, foundCount, distinctCount);
+    }
+
+    /**
+     * Записує результати потоково через буфер сталого розміру.
+     *
+     * @param result Результат пакетного пошуку
+     * @param path Шлях до файлу результатів
+     * @throws IOException Якщо запис не вдався
+     */
+    static void writeResults(BatchResult result, Path path) throws IOException {
+        byte[] separator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+        byte[] buffer = new byte[BLOCK_SIZE];
+        float[] queries = result.queries();
+        int[] positions = result.positions();
+
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            int offset = 0;
+            for (int i = 0; i < queries.length; i++) {
+                if (offset > buffer.length - MAX_LINE_LENGTH - separator.length) {
+                    outputStream.write(buffer, 0, offset);
+                    offset = 0;
+                }
+
+                offset = FloatTextWriter.formatFloat(queries[i], buffer, offset);
+                buffer[offset++] = ';';
+                byte[] flag;
+                if (positions[i] >= 0) {
+                    offset = FloatTextWriter.writeDigits(positions[i], 1, buffer, offset);
+                    flag = FOUND;
+                } else {
+                    buffer[offset++] = '-';
+                    buffer[offset++] = '1';
+                    flag = NOT_FOUND;
+                }
+                System.arraycopy(flag, 0, buffer, offset, flag.length);
+                offset += flag.length;
+                System.arraycopy(separator, 0, buffer, offset, separator.length);
+                offset += separator.length;
+            }
+            outputStream.write(buffer, 0, offset);
+        }
+    }
+
+    private static double queriesPerSecond(int queryCount, long nanos) {
+        return nanos > 0 ? queryCount * 1e9 / nanos : 0;
+    }
+}
@@ -0,0 +1,637 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Клас BenchmarkSuite вимірює на прогрітій JVM виклики структур даних, на яких побудовані
+ * операції процесорів List, Queue, Set та Map.
+ *
+ * <p>Кожен випадок виконується серією ітерацій прогріву, результати яких відкидаються,
+ * і серією вимірювальних ітерацій. Кількість викликів на ітерацію підбирається вже після прогріву,
+ * коли операцію скомпільовано JIT. Для кожної ітерації обчислюється середній час однієї операції,
+ * а за ітераціями - середнє, стандартне відхилення та довірчий інтервал 99.9% (розподіл Стьюдента).
+ * Випадки викликають саму структуру даних (пошук в індексі, межі масиву, пошук ключа в Map),
+ * а не метод процесора, тож побудова рядків і вивід у консоль не потрапляють у виміри.</p>
+ *
+ * <p>Кожен випадок для кожного розміру і розподілу виконується в окремій JVM з тими самими
+ * параметрами JVM (-Xmx тощо), що й головний процес. Так профіль JIT одного випадку не впливає
+ * на інші: виклик операції в циклі вимірювання бачить лише одну реалізацію і лишається мономорфним,
+ * а купа і скомпільований код не успадковуються від попередніх випадків.</p>
+ *
+ * <p>Фікстура кожного випадку будується один раз на весь випадок і не входить у виміри.
+ * Операції, що змінюють дані (сортування, додавання, видалення), мають дешеве скидання,
+ * яке перед кожним викликом повертає змінену частину стану і теж не вимірюється.
+ * Кожен виклик повертає результат структури, зведений до long, і він записується у volatile-сток,
+ * тож JIT не може відкинути виміряну роботу.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java -Xmx8g BenchmarkSuite
+ * java BenchmarkSuite --sizes=1000,100000 --distributions=UNIFORM,SORTED --filter=FloatSortedIndex.
+ * java BenchmarkSuite --warmup=3 --iterations=10 --iteration-ms=500
+ * }
+ * </pre>
+ */
+public class BenchmarkSuite {
+    private static final String USAGE_MESSAGE = "Використання: java BenchmarkSuite [--sizes=1000,...] "
+            + "[--distributions=UNIFORM,...] [--filter=<підрядок>] [--warmup=N] [--iterations=N] [--iteration-ms=N]";
+    private static final long RANDOM_SEED = 20240316L;
+    private static final String[] NICKNAMES = {"Шип", "Жало", "Клеш", "Панцир", "Хвіст", "Терен", "Скорп", "Ракун", "Оса", "Гак"};
+    private static final String[] OWNERS = {"Орест", "Зоряна", "Макар", "Іринка", "Демид", "Оксана", "Юхим", "Ярина"};
+    // квантилі розподілу Стьюдента t(0.9995, df) для df = 1..30
+    private static final double[] STUDENT_T_999 = {
+        636.619, 31.599, 12.924, 8.610, 6.869, 5.959, 5.408, 5.041, 4.781, 4.587,
+        4.437, 4.318, 4.221, 4.140, 4.073, 4.015, 3.965, 3.922, 3.883, 3.850,
+        3.819, 3.792, 3.768, 3.745, 3.725, 3.707, 3.690, 3.674, 3.659, 3.646
+    };
+    private static final double NORMAL_Z_999 = 3.291;
+    // опція, з якою головний процес запускає JVM для одного випадку, і рядки, якими та JVM відповідає
+    private static final String CASE_OPTION = "--case";
+    private static final String RESULT_MARKER = "RESULT";
+    private static final String OUT_OF_MEMORY_MARKER = "OUT_OF_MEMORY";
+    // калібрувальна партія має тривати щонайменше таку частку ітерації, щоб похибка таймера була малою
+    private static final int CALIBRATION_FRACTION = 10;
+    // ключі та власник, з якими працюють операції BasicDataOperationUsingMap
+    private static final String VALUE_TO_ADD = "Владислав";
+    private static final BasicDataOperationUsingMap.Scorpion KEY_TO_SEARCH_AND_DELETE = new BasicDataOperationUsingMap.Scorpion("Гак", 6.9);
+    private static final BasicDataOperationUsingMap.Scorpion KEY_TO_ADD = new BasicDataOperationUsingMap.Scorpion("Жало", 7.2);
+    private static final String VALUE_TO_SEARCH_AND_DELETE = "Макар";
+
+    // сток результатів: запис у volatile-поле не дає JIT відкинути обчислення результату
+    private static volatile long sink;
+
+    /**
+     * Розподіл згенерованих значень.
+     */
+    enum Distribution {
+        /** Рівномірні значення, як у list/float.data. */
+        UNIFORM,
+        /** Значення за зростанням. */
+        SORTED,
+        /** Значення за спаданням. */
+        REVERSED,
+        /** Сто різних значень з повторами. */
+        FEW_UNIQUE;
+
+        float[] generate(int size, Random random) {
+            float[] values = new float[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = Math.round((random.nextFloat() * 2 - 1) * 1e7f) / 10f;
+            }
+            switch (this) {
+                case SORTED -> Arrays.sort(values);
+                case REVERSED -> {
+                    Arrays.sort(values);
+                    for (int i = 0, j = size - 1; i < j; i++, j--) {
+                        float swap = values[i];
+                        values[i] = values[j];
+                        values[j] = swap;
+                    }
+                }
+                case FEW_UNIQUE -> {
+                    for (int i = 0; i < size; i++) {
+                        values[i] = values[random.nextInt(Math.min(size, 100))];
+                    }
+                }
+                default -> { }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Map процесора Map, яку заповнює фікстура.
+     */
+    enum MapKind {
+        HASHTABLE("ScorpionHashMap"),
+        LINKED_HASH_MAP("LinkedHashMap"),
+        TREE_MAP("TreeMap");
+
+        private final String displayName;
+
+        MapKind(String displayName) {
+            this.displayName = displayName;
+        }
+
+        Map<BasicDataOperationUsingMap.Scorpion, String> create() {
+            return switch (this) {
+                case HASHTABLE -> new ScorpionHashMap<>();
+                case LINKED_HASH_MAP -> new LinkedHashMap<>();
+                case TREE_MAP -> new TreeMap<>(BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+            };
+        }
+    }
+
+    /**
+     * Обгортка Map.
+     */
+    enum MapWrapping {
+        /** Map без обгортки. */
+        NONE(""),
+        /** {@link ReverseIndexedMap} над Map. */
+        REVERSE_INDEX(".indexed"),
+        /** {@link SortedKeyViewMap} над хеш-Map (ScorpionHashMap, LinkedHashMap). */
+        SORTED_VIEW(".sortedView");
+
+        private final String suffix;
+
+        MapWrapping(String suffix) {
+            this.suffix = suffix;
+        }
+
+        Map<BasicDataOperationUsingMap.Scorpion, String> wrap(Map<BasicDataOperationUsingMap.Scorpion, String> map) {
+            return switch (this) {
+                case NONE -> map;
+                case REVERSE_INDEX -> new ReverseIndexedMap<>(map);
+                case SORTED_VIEW -> new SortedKeyViewMap<>(map, BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+            };
+        }
+    }
+
+    /**
+     * Згенеровані дані для одного розміру і розподілу.
+     *
+     * @param distribution Розподіл
+     * @param values Значення float
+     * @param valueToSearch Значення для пошуку, що присутнє в наборі
+     */
+    record Workload(Distribution distribution, float[] values, float valueToSearch) {}
+
+    /**
+     * Підготовлений стан випадку: операція над ним і, для операцій, що змінюють стан, його скидання.
+     *
+     * @param operation Операція для вимірювання; її результат, зведений до long, потрапляє у сток
+     * @param reset Скидання стану перед кожним викликом або {@code null}, якщо операція стан не змінює
+     */
+    record Fixture(LongSupplier operation, Runnable reset) {
+        static Fixture of(LongSupplier operation) {
+            return new Fixture(operation, null);
+        }
+    }
+
+    /**
+     * Випадок вимірювання. Фікстура готує стан один раз на весь випадок.
+     *
+     * @param name Назва випадку
+     * @param fixture Підготовка стану для згенерованих даних
+     */
+    record BenchmarkCase(String name, Function<Workload, Fixture> fixture) {}
+
+    /**
+     * Статистика випадку в наносекундах на операцію.
+     */
+    record Result(double mean, double error, double standardDeviation, double min, double max, int samples) {}
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+
+    BenchmarkSuite(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    public static void main(String[] args) {
+        List<Integer> sizes = List.of(1_000, 10_000, 100_000, 1_000_000, 10_000_000);
+        List<Distribution> distributions = List.of(Distribution.values());
+        String filter = "";
+        String caseName = null;
+        int warmup = 5;
+        int iterations = 10;
+        long iterationMillis = 200;
+
+        try {
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                if (option.length != 2) {
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+                }
+                switch (option[0]) {
+                    case "--sizes" -> sizes = Arrays.stream(option[1].split(",")).map(String::trim).map(Integer::valueOf).toList();
+                    case "--distributions" -> distributions = Arrays.stream(option[1].split(","))
+                            .map(String::trim).map(Distribution::valueOf).toList();
+                    case "--filter" -> filter = option[1];
+                    case CASE_OPTION -> caseName = option[1];
+                    case "--warmup" -> warmup = Integer.parseInt(option[1]);
+                    case "--iterations" -> iterations = Integer.parseInt(option[1]);
+                    case "--iteration-ms" -> iterationMillis = Long.parseLong(option[1]);
+                    default -> {
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                    }
+                }
+            }
+        } catch (IllegalArgumentException exception) {
+            System.out.println("Помилка: " + exception.getMessage() + "\n" + USAGE_MESSAGE);
+            return;
+        }
+        if (iterations < 2 || warmup < 0 || iterationMillis <= 0) {
+            System.out.println("Помилка: потрібно щонайменше 2 вимірювальні ітерації\n" + USAGE_MESSAGE);
+            return;
+        }
+
+        BenchmarkSuite suite = new BenchmarkSuite(warmup, iterations, iterationMillis);
+        if (caseName == null) {
+            suite.run(sizes, distributions, filter);
+        } else if (sizes.size() == 1 && distributions.size() == 1) {
+            suite.runCase(caseName, sizes.get(0), distributions.get(0));
+        } else {
+            System.out.println("Помилка: для одного випадку потрібні один розмір і один розподіл\n" + USAGE_MESSAGE);
+        }
+    }
+
+    /**
+     * Виконує всі випадки, назва яких містить фільтр, для кожного розміру і розподілу,
+     * кожен в окремій JVM.
+     */
+    void run(List<Integer> sizes, List<Distribution> distributions, String filter) {
+        List<BenchmarkCase> cases = new ArrayList<>();
+        for (BenchmarkCase benchmarkCase : benchmarkCases()) {
+            if (benchmarkCase.name().contains(filter)) {
+                cases.add(benchmarkCase);
+            }
+        }
+
+        System.out.printf("Прогрів: %d x %d мс, вимірювання: %d x %d мс%n",
+                warmupIterations, iterationNanos / 1_000_000, measurementIterations, iterationNanos / 1_000_000);
+        System.out.printf("%-44s %-11s %10s %16s %14s %14s%n", "Операція", "Розподіл", "Розмір", "нс/оп", "± (99.9%)", "σ");
+
+        for (int size : sizes) {
+            for (Distribution distribution : distributions) {
+                for (BenchmarkCase benchmarkCase : cases) {
+                    String response = runInForkedJvm(benchmarkCase.name(), size, distribution);
+                    if (response != null && response.startsWith(RESULT_MARKER)) {
+                        String[] fields = response.split(" ");
+                        System.out.printf("%-44s %-11s %10d %16.1f %14.1f %14.1f%n", benchmarkCase.name(), distribution, size,
+                                Double.parseDouble(fields[1]), Double.parseDouble(fields[2]), Double.parseDouble(fields[3]));
+                    } else if (OUT_OF_MEMORY_MARKER.equals(response)) {
+                        System.out.printf("%-44s %-11s %10d   недостатньо пам'яті (збільшіть -Xmx)%n",
+                                benchmarkCase.name(), distribution, size);
+                    } else {
+                        System.out.printf("%-44s %-11s %10d   JVM випадку завершилась без результату%n",
+                                benchmarkCase.name(), distribution, size);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Запускає JVM, що виконує один випадок, з параметрами JVM і шляхом класів поточного процесу.
+     *
+     * @return Рядок результату або нестачі пам'яті, надрукований JVM випадку, або null
+     */
+    private String runInForkedJvm(String caseName, int size, Distribution distribution) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.addAll(List.of("-cp", System.getProperty("java.class.path"), BenchmarkSuite.class.getName(),
+                CASE_OPTION + "=" + caseName, "--sizes=" + size, "--distributions=" + distribution,
+                "--warmup=" + warmupIterations, "--iterations=" + measurementIterations,
+                "--iteration-ms=" + iterationNanos / 1_000_000));
+
+        try {
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String response = null;
+            try (BufferedReader reader = process.inputReader()) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(RESULT_MARKER) || line.equals(OUT_OF_MEMORY_MARKER)) {
+                        response = line;
+                    }
+                }
+            }
+            return process.waitFor() == 0 || OUT_OF_MEMORY_MARKER.equals(response) ? response : null;
+        } catch (IOException e) {
+            throw new RuntimeException("Помилка запуску JVM для випадку: " + caseName, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Очікування JVM випадку перервано: " + caseName, e);
+        }
+    }
+
+    /**
+     * Виконує один випадок у поточній JVM і друкує його результат одним рядком для головного процесу.
+     */
+    void runCase(String caseName, int size, Distribution distribution) {
+        BenchmarkCase benchmarkCase = benchmarkCases().stream()
+                .filter(candidate -> candidate.name().equals(caseName))
+                .findFirst()
+                .orElse(null);
+        if (benchmarkCase == null) {
+            System.out.println("Помилка: невідомий випадок " + caseName);
+            return;
+        }
+
+        try {
+            float[] values = distribution.generate(size, new Random(RANDOM_SEED));
+            Result result = measure(benchmarkCase, new Workload(distribution, values, values[size / 2]));
+            System.out.println(RESULT_MARKER + " " + result.mean() + " " + result.error() + " " + result.standardDeviation());
+        } catch (OutOfMemoryError outOfMemoryError) {
+            System.out.println(OUT_OF_MEMORY_MARKER);
+        }
+    }
+
+    /**
+     * Вимірює один випадок: ітерації прогріву, потім вимірювальні ітерації.
+     */
+    Result measure(BenchmarkCase benchmarkCase, Workload workload) {
+        Fixture fixture = benchmarkCase.fixture().apply(workload);
+
+        warmUp(fixture);
+        int batchSize = fixture.reset() == null ? calibrateBatch(fixture.operation()) : 1;
+
+        double[] samples = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            samples[i] = runIteration(fixture, batchSize);
+        }
+        return summarize(samples);
+    }
+
+    /**
+     * Виконує ітерації прогріву: операція викликається, доки не мине тривалість ітерації.
+     */
+    private void warmUp(Fixture fixture) {
+        LongSupplier operation = fixture.operation();
+        for (int i = 0; i < warmupIterations; i++) {
+            long iterationStart = System.nanoTime();
+            do {
+                if (fixture.reset() != null) {
+                    fixture.reset().run();
+                }
+                sink = operation.getAsLong();
+            } while (System.nanoTime() - iterationStart < iterationNanos);
+        }
+    }
+
+    /**
+     * Підбирає кількість викликів на ітерацію, щоб ітерація тривала приблизно заданий час.
+     * Партія подвоюється, доки не триватиме довше за частку ітерації, а потім масштабується
+     * за своєю тривалістю; один виклик для цього замалий, бо його час близький до роздільності таймера.
+     */
+    private int calibrateBatch(LongSupplier operation) {
+        long thresholdNanos = Math.max(1, iterationNanos / CALIBRATION_FRACTION);
+        long batchSize = 1;
+        while (true) {
+            long timeStart = System.nanoTime();
+            for (long i = 0; i < batchSize; i++) {
+                sink = operation.getAsLong();
+            }
+            long batchNanos = System.nanoTime() - timeStart;
+            if (batchNanos >= thresholdNanos || batchSize >= Integer.MAX_VALUE / 2) {
+                return (int) Math.max(1, Math.min(Integer.MAX_VALUE, batchSize * iterationNanos / Math.max(1, batchNanos)));
+            }
+            batchSize *= 2;
+        }
+    }
+
+    /**
+     * @return Середній час однієї операції в ітерації, нс
+     */
+    private double runIteration(Fixture fixture, int batchSize) {
+        LongSupplier operation = fixture.operation();
+        if (fixture.reset() == null) {
+            long timeStart = System.nanoTime();
+            for (int i = 0; i < batchSize; i++) {
+                sink = operation.getAsLong();
+            }
+            return (double) (System.nanoTime() - timeStart) / batchSize;
+        }
+
+        // скидання стану не входить у вимір, але обмежує тривалість ітерації
+        long measuredNanos = 0;
+        int invocations = 0;
+        long iterationStart = System.nanoTime();
+        do {
+            fixture.reset().run();
+            long timeStart = System.nanoTime();
+            sink = operation.getAsLong();
+            measuredNanos += System.nanoTime() - timeStart;
+            invocations++;
+        } while (measuredNanos < iterationNanos && System.nanoTime() - iterationStart < 5 * iterationNanos);
+        return (double) measuredNanos / invocations;
+    }
+
+    static Result summarize(double[] samples) {
+        int count = samples.length;
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+        for (double sample : samples) {
+            sum += sample;
+            min = Math.min(min, sample);
+            max = Math.max(max, sample);
+        }
+        double mean = sum / count;
+
+        double squaredDeviations = 0;
+        for (double sample : samples) {
+            squaredDeviations += (sample - mean) * (sample - mean);
+        }
+        double standardDeviation = Math.sqrt(squaredDeviations / (count - 1));
+        double quantile = count - 1 <= STUDENT_T_999.length ? STUDENT_T_999[count - 2] : NORMAL_Z_999;
+        return new Result(mean, quantile * standardDeviation / Math.sqrt(count), standardDeviation, min, max, count);
+    }
+
+    /**
+     * @return Усі випадки вимірювання
+     */
+    static List<BenchmarkCase> benchmarkCases() {
+        List<BenchmarkCase> cases = new ArrayList<>(List.of(
+            // пошуки і межі масиву та List (findInArray, findInList, locateMinMax*, запити в діапазоні)
+            new BenchmarkCase("FloatBloomFilter.mightContain", workload -> {
+                FloatBloomFilter bloomFilter = new FloatDataset(workload.values()).bloomFilter();
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> bloomFilter.mightContain(value) ? 1 : 0);
+            }),
+            new BenchmarkCase("FloatSortedIndex.indexOf", workload -> {
+                FloatSortedIndex sortedIndex = FloatSortedIndex.build(workload.values());
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> sortedIndex.indexOf(value));
+            }),
+            new BenchmarkCase("FloatSortedIndex.countInRange", workload -> {
+                FloatSortedIndex sortedIndex = FloatSortedIndex.build(workload.values());
+                float lower = workload.valueToSearch() - FloatDataset.RANGE_HALF_WIDTH;
+                float upper = workload.valueToSearch() + FloatDataset.RANGE_HALF_WIDTH;
+                return Fixture.of(() -> sortedIndex.countInRange(lower, upper));
+            }),
+            new BenchmarkCase("FloatZoneMap.firstPosition", workload -> {
+                FloatZoneMap zoneMap = FloatZoneMap.of(workload.values());
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> zoneMap.firstPosition(value).position());
+            }),
+            new BenchmarkCase("FloatZoneMap.firstPositionInRange", workload -> {
+                FloatZoneMap zoneMap = FloatZoneMap.of(workload.values());
+                float lower = workload.valueToSearch() - FloatDataset.RANGE_HALF_WIDTH;
+                float upper = workload.valueToSearch() + FloatDataset.RANGE_HALF_WIDTH;
+                return Fixture.of(() -> zoneMap.firstPositionInRange(lower, upper).position());
+            }),
+            new BenchmarkCase("FloatMinMaxKernel.of", workload -> {
+                float[] values = workload.values();
+                return Fixture.of(() -> digest(FloatMinMaxKernel.of(values)));
+            }),
+            // перегляд List у вихідному порядку, до переходу на впорядкований вигляд
+            new BenchmarkCase("List.indexOf", workload -> {
+                float[] values = workload.values();
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> BasicDataOperationUsingList.indexOf(values, value));
+            }),
+            new BenchmarkCase("SortedFloatList.indexOf", workload -> {
+                SortedFloatList sortedList = SortedFloatList.fromSorted(FloatSortedIndex.build(workload.values()).sortedValues());
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> sortedList.indexOf(value));
+            }),
+            // вставка і видалення повертають список до початкового вмісту, тож скидання не потрібне
+            new BenchmarkCase("SortedFloatList.addRemove", workload -> {
+                SortedFloatList sortedList = SortedFloatList.fromSorted(FloatSortedIndex.build(workload.values()).sortedValues());
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> {
+                    sortedList.add(value);
+                    int position = sortedList.indexOf(value);
+                    sortedList.remove(value);
+                    return position;
+                });
+            }),
+            // FloatSortEngine.sort замінює колишнє сортування масиву процесорами (performArraySorting):
+            // процесори тепер беруть відсортований масив з індексу набору, який будується цим сортуванням
+            new BenchmarkCase("FloatSortEngine.sort", workload -> {
+                float[] values = workload.values();
+                float[] buffer = new float[values.length];
+                return new Fixture(() -> {
+                    FloatSortEngine.sort(buffer);
+                    return Float.floatToRawIntBits(buffer[buffer.length >>> 1]);
+                }, () -> System.arraycopy(values, 0, buffer, 0, values.length));
+            }),
+            new BenchmarkCase("FloatSortedIndex.build", workload -> {
+                float[] values = workload.values();
+                return Fixture.of(() -> Float.floatToRawIntBits(FloatSortedIndex.build(values).valueAt(0)));
+            }),
+
+            // Queue і Set (findInQueue, findInSet, analyzeArrayAndSet)
+            new BenchmarkCase("FloatMinMaxHeap.contains", workload -> {
+                FloatMinMaxHeap heap = FloatMinMaxHeap.heapify(workload.values());
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> heap.contains(value) ? 1 : 0);
+            }),
+            new BenchmarkCase("FloatHashSet.contains", workload -> {
+                FloatHashSet set = FloatHashSet.of(workload.values(), true);
+                float value = workload.valueToSearch();
+                return Fixture.of(() -> set.contains(value) ? 1 : 0);
+            }),
+            new BenchmarkCase("FloatHashSet.containsAll", workload -> {
+                float[] values = workload.values();
+                FloatHashSet set = FloatHashSet.of(values, true);
+                return Fixture.of(() -> {
+                    for (float value : values) {
+                        if (!set.contains(value)) {
+                            return 0;
+                        }
+                    }
+                    return 1;
+                });
+            })
+        ));
+
+        // Map (findByKey*, addEntryTo*, removeByKeyFrom*, removeByValueFrom*)
+        for (MapKind mapKind : MapKind.values()) {
+            cases.add(mapCase(mapKind, MapWrapping.NONE, "containsKey",
+                    map -> Fixture.of(() -> map.containsKey(KEY_TO_SEARCH_AND_DELETE) ? 1 : 0)));
+            cases.add(mapCase(mapKind, MapWrapping.NONE, "put", BenchmarkSuite::putFixture));
+            cases.add(mapCase(mapKind, MapWrapping.NONE, "remove", BenchmarkSuite::removeFixture));
+            cases.add(mapCase(mapKind, MapWrapping.NONE, "removeByValue", BenchmarkSuite::removeByValueFixture));
+            cases.add(mapCase(mapKind, MapWrapping.REVERSE_INDEX, "removeByValue", BenchmarkSuite::removeByValueFixture));
+        }
+        cases.add(mapCase(MapKind.HASHTABLE, MapWrapping.SORTED_VIEW, "put", BenchmarkSuite::putFixture));
+        cases.add(mapCase(MapKind.HASHTABLE, MapWrapping.SORTED_VIEW, "remove", BenchmarkSuite::removeFixture));
+        // відсортований обхід хеш-Map: перебудова відсортованою копією (sortLinkedHashMap) проти SortedKeyViewMap
+        for (MapKind mapKind : List.of(MapKind.HASHTABLE, MapKind.LINKED_HASH_MAP)) {
+            cases.add(mapCase(mapKind, MapWrapping.NONE, "sortedIteration.rebuild", map -> Fixture.of(() -> traverse(map.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(BasicDataOperationUsingMap.SCORPION_COMPARATOR))
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (e1, e2) -> e1, LinkedHashMap::new))))));
+            cases.add(mapCase(mapKind, MapWrapping.SORTED_VIEW, "sortedIteration", map -> Fixture.of(() -> traverse(map))));
+        }
+        return cases;
+    }
+
+    /**
+     * Випадок над заповненою Map; назва складається з назви Map, операції та обгортки.
+     *
+     * @param fixture Підготовка операції над заповненою Map
+     */
+    private static BenchmarkCase mapCase(MapKind mapKind, MapWrapping wrapping, String operationName,
+            Function<Map<BasicDataOperationUsingMap.Scorpion, String>, Fixture> fixture) {
+        return new BenchmarkCase(mapKind.displayName + "." + operationName + wrapping.suffix,
+                workload -> fixture.apply(filledMap(workload, mapKind, wrapping)));
+    }
+
+    private static Fixture putFixture(Map<BasicDataOperationUsingMap.Scorpion, String> map) {
+        return new Fixture(() -> map.put(KEY_TO_ADD, VALUE_TO_ADD) == null ? 0 : 1, () -> map.remove(KEY_TO_ADD));
+    }
+
+    private static Fixture removeFixture(Map<BasicDataOperationUsingMap.Scorpion, String> map) {
+        return new Fixture(() -> map.remove(KEY_TO_SEARCH_AND_DELETE) == null ? 0 : 1,
+                () -> map.put(KEY_TO_SEARCH_AND_DELETE, VALUE_TO_SEARCH_AND_DELETE));
+    }
+
+    /**
+     * Видалення за значенням тим самим шляхом, що й у процесорі Map: через зворотний індекс,
+     * якщо Map його має, інакше переглядом записів. Скидання повертає видалені записи.
+     */
+    private static Fixture removeByValueFixture(Map<BasicDataOperationUsingMap.Scorpion, String> map) {
+        List<BasicDataOperationUsingMap.Scorpion> keys = map.entrySet().stream()
+                .filter(entry -> VALUE_TO_SEARCH_AND_DELETE.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        return new Fixture(() -> BasicDataOperationUsingMap.removeKeysByValue(map, VALUE_TO_SEARCH_AND_DELETE).size(),
+                () -> keys.forEach(key -> map.put(key, VALUE_TO_SEARCH_AND_DELETE)));
+    }
+
+    /**
+     * Обходить записи Map у порядку її ітерації.
+     *
+     * @return Сума довжин значень, щоб обхід мав результат для стоку
+     */
+    private static int traverse(Map<BasicDataOperationUsingMap.Scorpion, String> map) {
+        int totalLength = 0;
+        for (String value : map.values()) {
+            totalLength += value.length();
+        }
+        return totalLength;
+    }
+
+    /**
+     * @return Бітові подання обох меж, складені в одне значення для стоку
+     */
+    private static long digest(FloatMinMaxKernel.MinMax minMax) {
+        return (long) Float.floatToRawIntBits(minMax.min()) << 32 | (Float.floatToRawIntBits(minMax.max()) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Створює Map з обгорткою і заповнює її записами: скорпіон з вагою зі згенерованих значень та власник.
+     * Ключ, який шукає і видаляє процесор Map, завжди присутній.
+     */
+    private static Map<BasicDataOperationUsingMap.Scorpion, String> filledMap(Workload workload, MapKind mapKind, MapWrapping wrapping) {
+        Map<BasicDataOperationUsingMap.Scorpion, String> map = wrapping.wrap(mapKind.create());
+        float[] values = workload.values();
+        for (int i = 0; i < values.length; i++) {
+            map.put(new BasicDataOperationUsingMap.Scorpion(NICKNAMES[i % NICKNAMES.length] + "-" + (i / NICKNAMES.length),
+                    (double) values[i]), OWNERS[i % OWNERS.length]);
+        }
+        map.put(KEY_TO_SEARCH_AND_DELETE, VALUE_TO_SEARCH_AND_DELETE);
+        return map;
+    }
+}
@@ -0,0 +1,88 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Клас ByteLineReader читає текстовий файл блоками і передає рядки як діапазони байтів.
+ *
+ * <p>BOM відкидається один раз на початку файлу, пробільні символи (зокрема {@code \r})
+ * на краях рядка обрізаються, порожні рядки пропускаються. Рядки не перетворюються
+ * на {@link String}, тож розбір значень може працювати безпосередньо з байтами.</p>
+ */
+class ByteLineReader {
+    /**
+     * Приймач рядків. Діапазон байтів дійсний лише під час виклику.
+     */
+    @FunctionalInterface
+    interface LineSink {
+        void accept(byte[] buffer, int start, int end);
+    }
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Передає всі непорожні рядки файлу до приймача.
+     *
+     * @param filePath Шлях до файлу.
+     * @param sink Приймач рядків.
+     */
+    static void readLines(String filePath, LineSink sink) {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        byte[] pendingLine = new byte[256];
+        int pendingLength = 0;
+
+        try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+            int bytesRead = inputStream.readNBytes(buffer, 0, buffer.length);
+            int offset = FloatTextParser.byteOrderMarkLength(buffer, 0, bytesRead);
+
+            while (bytesRead > 0) {
+                int lineStart = offset;
+                for (int i = offset; i < bytesRead; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+                    if (pendingLength > 0) {
+                        pendingLine = append(pendingLine, pendingLength, buffer, lineStart, i);
+                        pendingLength += i - lineStart;
+                        emitTrimmed(pendingLine, 0, pendingLength, sink);
+                        pendingLength = 0;
+                    } else {
+                        emitTrimmed(buffer, lineStart, i, sink);
+                    }
+                    lineStart = i + 1;
+                }
+                pendingLine = append(pendingLine, pendingLength, buffer, lineStart, bytesRead);
+                pendingLength += bytesRead - lineStart;
+
+                bytesRead = inputStream.readNBytes(buffer, 0, buffer.length);
+                offset = 0;
+            }
+            emitTrimmed(pendingLine, 0, pendingLength, sink);
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+    }
+
+    private static byte[] append(byte[] target, int targetLength, byte[] source, int from, int to) {
+        int length = to - from;
+        if (targetLength + length > target.length) {
+            target = Arrays.copyOf(target, Math.max(target.length * 2, targetLength + length));
+        }
+        System.arraycopy(source, from, target, targetLength, length);
+        return target;
+    }
+
+    private static void emitTrimmed(byte[] buffer, int start, int end, LineSink sink) {
+        while (start < end && buffer[start] >= 0 && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] >= 0 && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        if (start < end) {
+            sink.accept(buffer, start, end);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Клас ConcurrentAnalysisRunner виконує незалежні аналізи одночасно.
+ *
+ * <p>Кожен аналіз працює у власному потоці, а його вивід збирається у буфер
+ * {@link ThreadRoutedOutput} і друкується цілим блоком після завершення аналізу,
+ * у порядку завершення. Після всіх аналізів виводиться загальний час та сума
+ * тривалостей окремих аналізів.</p>
+ */
+class ConcurrentAnalysisRunner {
+    /**
+     * Незалежний аналіз.
+     *
+     * @param name Назва аналізу для звіту
+     * @param body Дії аналізу
+     */
+    record Analysis(String name, Runnable body) {}
+
+    private record AnalysisResult(String name, byte[] output, long elapsedNanos) {}
+
+    /**
+     * Запускає всі аналізи одночасно та очікує їх завершення.
+     *
+     * @param analyses Перелік аналізів
+     */
+    static void runAll(List<Analysis> analyses) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(analyses.size(), runnable -> {
+            Thread thread = new Thread(runnable, "analysis-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long timeStart = System.nanoTime();
+        long totalAnalysisNanos = 0;
+        try (ThreadRoutedOutput routedOutput = ThreadRoutedOutput.install()) {
+            CompletionService<AnalysisResult> completionService = new ExecutorCompletionService<>(executor);
+            for (Analysis analysis : analyses) {
+                completionService.submit(() -> {
+                    long analysisStart = System.nanoTime();
+                    byte[] output = routedOutput.capture(analysis.body());
+                    return new AnalysisResult(analysis.name(), output, System.nanoTime() - analysisStart);
+                });
+            }
+
+            for (int i = 0; i < analyses.size(); i++) {
+                AnalysisResult result = completionService.take().get();
+                totalAnalysisNanos += result.elapsedNanos();
+                routedOutput.printAtomically(result.output());
+                System.out.printf("%n--- Аналіз %s завершено за %d нс ---%n%n", result.name(), result.elapsedNanos());
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Очікування паралельних аналізів перервано", interruptedException);
+        } catch (ExecutionException executionException) {
+            throw new RuntimeException("Помилка паралельного аналізу", executionException.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsedNanos = System.nanoTime() - timeStart;
+        PerformanceTracker.recordOperationTime(timeStart, "паралельне виконання аналізів");
+        System.out.println("Загальний час паралельного виконання: " + elapsedNanos + " нс");
+        System.out.println("Сума тривалостей окремих аналізів: " + totalAnalysisNanos + " нс");
+    }
+}
@@ -0,0 +1,341 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Клас ConcurrentMapStressHarness навантажує {@link ConcurrentScorpionRegistry} з кількох потоків
+ * і вимірює пропускну здатність та хвостові затримки.
+ *
+ * <p>Для кожного сховища і кожної кількості потоків реєстр заповнюється половиною пулу ключів,
+ * після чого потоки протягом заданого часу виконують випадкові операції у заданій пропорції:
+ * пошук за ключем, додавання, видалення за ключем, пошук і видалення за значенням. Ключі
+ * обираються рівномірно з пулу, тож пошук влучає приблизно в половині випадків, а додавання
+ * і видалення підтримують розмір реєстру. Власники обираються з {@value #OWNER_POOL_SIZE} імен.
+ * Операції за значенням переглядають увесь реєстр, тож навіть їхня мала частка помітно
+ * впливає на пропускну здатність і хвіст затримок. Кожен потік записує затримки у власну
+ * {@link LatencyHistogram}; після прогону гістограми зводяться, і звіт виводить кількість
+ * операцій за секунду, p50, p99, p99.9 і максимум затримки. Затримка охоплює лише саму операцію
+ * між двома викликами {@link System#nanoTime()}, тож містить накладні витрати одного такого
+ * виклику (кілька десятків наносекунд); вибір операції, ключа і власника та запис у гістограму
+ * до неї не входять. Кількість операцій за секунду рахується окремо, за загальним часом прогону.</p>
+ *
+ * <p>Перед вимірами кожного сховища виконується прогрів з найбільшою кількістю потоків.</p>
+ *
+ * <p>Приклад використання:</p>
+ * <pre>
+ * {@code
+ * java ConcurrentMapStressHarness
+ * java ConcurrentMapStressHarness --threads=1,2,4,8 --size=1000000 --duration-ms=3000
+ * java ConcurrentMapStressHarness --mix=find:50,add:20,remove:20,find-by-value:5,remove-by-value:5 --size=10000
+ * java ConcurrentMapStressHarness --backends=CONCURRENT_HASH_MAP,CONCURRENT_SKIP_LIST_MAP
+ * }
+ * </pre>
+ */
+public class ConcurrentMapStressHarness {
+    private static final String USAGE_MESSAGE = "Використання: java ConcurrentMapStressHarness [--threads=1,2,...] "
+            + "[--size=N] [--duration-ms=N] [--warmup-ms=N] [--backends=CONCURRENT_HASH_MAP,...] "
+            + "[--mix=find:N,add:N,remove:N,find-by-value:N,remove-by-value:N]";
+    private static final long RANDOM_SEED = 20240316L;
+    private static final String[] NICKNAMES = {"Шип", "Жало", "Клеш", "Панцир", "Хвіст", "Терен", "Скорп", "Ракун", "Оса", "Гак"};
+    private static final String[] OWNERS = {"Орест", "Зоряна", "Макар", "Іринка", "Демид", "Оксана", "Юхим", "Ярина"};
+    // видалення за значенням прибирає близько 1/OWNER_POOL_SIZE записів і не спустошує реєстр
+    private static final int OWNER_POOL_SIZE = 1024;
+
+    /**
+     * Операція навантаження.
+     */
+    enum Operation {
+        FIND("find"),
+        ADD("add"),
+        REMOVE("remove"),
+        FIND_BY_VALUE("find-by-value"),
+        REMOVE_BY_VALUE("remove-by-value");
+
+        private final String optionName;
+
+        Operation(String optionName) {
+            this.optionName = optionName;
+        }
+
+        static Operation fromOptionName(String optionName) {
+            for (Operation operation : values()) {
+                if (operation.optionName.equals(optionName)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Невідома операція: " + optionName);
+        }
+    }
+
+    /**
+     * Пропорція операцій: накопичені ваги для вибору операції одним випадковим числом.
+     */
+    static final class OperationMix {
+        private final Operation[] operations;
+        private final double[] cumulativeWeights;
+
+        private OperationMix(Operation[] operations, double[] cumulativeWeights) {
+            this.operations = operations;
+            this.cumulativeWeights = cumulativeWeights;
+        }
+
+        /**
+         * @param specification Перелік {@code операція:вага} через кому
+         * @return Пропорція
+         * @throws IllegalArgumentException Якщо операція невідома, вага від'ємна або сума ваг нульова
+         */
+        static OperationMix parse(String specification) {
+            List<Operation> operations = new ArrayList<>();
+            List<Double> weights = new ArrayList<>();
+            for (String part : specification.split(",")) {
+                String[] pair = part.trim().split(":", 2);
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Очікується операція:вага, отримано: " + part);
+                }
+                double weight = Double.parseDouble(pair[1]);
+                if (!(weight >= 0)) {
+                    throw new IllegalArgumentException("Вага має бути невід'ємною: " + part);
+                }
+                operations.add(Operation.fromOptionName(pair[0].trim()));
+                weights.add(weight);
+            }
+
+            double total = weights.stream().mapToDouble(Double::doubleValue).sum();
+            if (!(total > 0)) {
+                throw new IllegalArgumentException("Сума ваг має бути додатною: " + specification);
+            }
+            double[] cumulativeWeights = new double[weights.size()];
+            double sum = 0;
+            for (int i = 0; i < weights.size(); i++) {
+                sum += weights.get(i);
+                cumulativeWeights[i] = sum / total;
+            }
+            return new OperationMix(operations.toArray(new Operation[0]), cumulativeWeights);
+        }
+
+        Operation pick(double random) {
+            for (int i = 0; i < cumulativeWeights.length - 1; i++) {
+                if (random < cumulativeWeights[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            double previous = 0;
+            for (int i = 0; i < operations.length; i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                text.append(operations[i].optionName).append(String.format(" %.2f%%", (cumulativeWeights[i] - previous) * 100));
+                previous = cumulativeWeights[i];
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * Результат прогону.
+     *
+     * @param operations Кількість виконаних операцій усіма потоками
+     * @param elapsedNanos Тривалість прогону
+     * @param latencies Зведені затримки операцій
+     */
+    record RunResult(long operations, long elapsedNanos, LatencyHistogram latencies) {
+        double operationsPerSecond() {
+            return operations * 1e9 / elapsedNanos;
+        }
+    }
+
+    private record ThreadResult(long operations, LatencyHistogram latencies) {}
+
+    private final BasicDataOperationUsingMap.Scorpion[] keyPool;
+    private final String[] ownerPool;
+    private final OperationMix mix;
+
+    /**
+     * @param size Кількість записів реєстру на початку прогону; пул ключів удвічі більший
+     * @param mix Пропорція операцій
+     */
+    ConcurrentMapStressHarness(int size, OperationMix mix) {
+        this.mix = mix;
+        this.keyPool = new BasicDataOperationUsingMap.Scorpion[Math.max(2, 2 * size)];
+        SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+        for (int i = 0; i < keyPool.length; i++) {
+            keyPool[i] = new BasicDataOperationUsingMap.Scorpion(NICKNAMES[i % NICKNAMES.length] + "-" + (i / NICKNAMES.length),
+                    Math.round(random.nextDouble(5.0, 10.0) * 10) / 10.0);
+        }
+        this.ownerPool = new String[OWNER_POOL_SIZE];
+        for (int i = 0; i < ownerPool.length; i++) {
+            ownerPool[i] = OWNERS[i % OWNERS.length] + "-" + (i / OWNERS.length);
+        }
+    }
+
+    public static void main(String[] args) {
+        List<Integer> threadCounts = defaultThreadCounts();
+        int size = 100_000;
+        long durationMillis = 2_000;
+        long warmupMillis = 1_000;
+        List<ConcurrentScorpionRegistry.Backend> backends = List.of(ConcurrentScorpionRegistry.Backend.values());
+        String mixSpecification = "find:80,add:10,remove:10,find-by-value:0.01,remove-by-value:0.01";
+
+        try {
+            for (String arg : args) {
+                String[] option = arg.split("=", 2);
+                if (option.length != 2) {
+                    System.out.println(USAGE_MESSAGE);
+                    return;
+                }
+                switch (option[0]) {
+                    case "--threads" -> threadCounts = Arrays.stream(option[1].split(",")).map(String::trim).map(Integer::valueOf).toList();
+                    case "--size" -> size = Integer.parseInt(option[1]);
+                    case "--duration-ms" -> durationMillis = Long.parseLong(option[1]);
+                    case "--warmup-ms" -> warmupMillis = Long.parseLong(option[1]);
+                    case "--backends" -> backends = Arrays.stream(option[1].split(","))
+                            .map(String::trim).map(ConcurrentScorpionRegistry.Backend::valueOf).toList();
+                    case "--mix" -> mixSpecification = option[1];
+                    default -> {
+                        System.out.println(USAGE_MESSAGE);
+                        return;
+                    }
+                }
+            }
+            if (size < 1 || durationMillis <= 0 || warmupMillis < 0 || threadCounts.isEmpty()
+                    || threadCounts.stream().anyMatch(threads -> threads < 1)) {
+                throw new IllegalArgumentException("розмір, тривалість і кількість потоків мають бути додатними");
+            }
+            OperationMix mix = OperationMix.parse(mixSpecification);
+
+            new ConcurrentMapStressHarness(size, mix).runAll(backends, threadCounts, durationMillis, warmupMillis);
+        } catch (IllegalArgumentException exception) {
+            System.out.println("Помилка: " + exception.getMessage() + "\n" + USAGE_MESSAGE);
+        }
+    }
+
+    private static List<Integer> defaultThreadCounts() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int threads = 1; threads < processors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        threadCounts.add(processors);
+        return threadCounts;
+    }
+
+    /**
+     * Виконує прогони для кожного сховища і кожної кількості потоків та виводить звіт.
+     */
+    void runAll(List<ConcurrentScorpionRegistry.Backend> backends, List<Integer> threadCounts, long durationMillis, long warmupMillis) {
+        int maxThreads = threadCounts.stream().mapToInt(Integer::intValue).max().orElse(1);
+        System.out.printf("Записів: %d, пул ключів: %d, операції: %s%n", keyPool.length / 2, keyPool.length, mix);
+        System.out.printf("Прогрів: %d мс, вимірювання: %d мс на кожну кількість потоків%n", warmupMillis, durationMillis);
+        System.out.printf("%-32s %7s %14s %10s %10s %10s %12s%n", "Сховище", "Потоки", "оп/с", "p50, нс", "p99, нс", "p99.9, нс", "max, нс");
+
+        for (ConcurrentScorpionRegistry.Backend backend : backends) {
+            if (warmupMillis > 0) {
+                run(backend, maxThreads, warmupMillis);
+            }
+            for (int threads : threadCounts) {
+                RunResult result = run(backend, threads, durationMillis);
+                LatencyHistogram latencies = result.latencies();
+                System.out.printf("%-32s %7d %14.0f %10d %10d %10d %12d%n", backend, threads, result.operationsPerSecond(),
+                        latencies.valueAtPercentile(50), latencies.valueAtPercentile(99),
+                        latencies.valueAtPercentile(99.9), latencies.max());
+            }
+        }
+    }
+
+    /**
+     * Заповнює новий реєстр і навантажує його заданою кількістю потоків.
+     *
+     * @return Зведений результат прогону
+     */
+    RunResult run(ConcurrentScorpionRegistry.Backend backend, int threads, long durationMillis) {
+        ConcurrentScorpionRegistry registry = new ConcurrentScorpionRegistry(backend, keyPool.length);
+        for (int i = 0; i < keyPool.length; i += 2) {
+            registry.addEntry(keyPool[i], ownerPool[(i / 2) % ownerPool.length]);
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "stress-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long durationNanos = durationMillis * 1_000_000L;
+
+        try {
+            List<Future<ThreadResult>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SplittableRandom random = new SplittableRandom(RANDOM_SEED + t);
+                Callable<ThreadResult> worker = () -> {
+                    ready.countDown();
+                    start.await();
+                    return work(registry, random, System.nanoTime() + durationNanos);
+                };
+                futures.add(executor.submit(worker));
+            }
+
+            ready.await();
+            long timeStart = System.nanoTime();
+            start.countDown();
+            long operations = 0;
+            LatencyHistogram latencies = new LatencyHistogram();
+            for (Future<ThreadResult> future : futures) {
+                ThreadResult result = future.get();
+                operations += result.operations();
+                latencies.add(result.latencies());
+            }
+            return new RunResult(operations, System.nanoTime() - timeStart, latencies);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Очікування потоків навантаження перервано", interruptedException);
+        } catch (ExecutionException executionException) {
+            throw new RuntimeException("Помилка потоку навантаження", executionException.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ThreadResult work(ConcurrentScorpionRegistry registry, SplittableRandom random, long deadline) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        long operations = 0;
+        long sink = 0;
+        long now = System.nanoTime();
+        while (now < deadline) {
+            Operation operation = mix.pick(random.nextDouble());
+            BasicDataOperationUsingMap.Scorpion key = keyPool[random.nextInt(keyPool.length)];
+            String owner = ownerPool[random.nextInt(ownerPool.length)];
+
+            long timeStart = System.nanoTime();
+            switch (operation) {
+                case FIND -> sink += registry.findByKey(key) == null ? 0 : 1;
+                case ADD -> sink += registry.addEntry(key, owner) == null ? 0 : 1;
+                case REMOVE -> sink += registry.removeByKey(key) == null ? 0 : 1;
+                case FIND_BY_VALUE -> sink += registry.findByValue(owner);
+                case REMOVE_BY_VALUE -> sink += registry.removeByValue(owner) ? 1 : 0;
+            }
+            now = System.nanoTime();
+            latencies.recordValue(now - timeStart);
+            operations++;
+        }
+        // результат операцій використовується, щоб JIT не відкинув їх
+        if (sink == Long.MIN_VALUE) {
+            System.out.println(sink);
+        }
+        return new ThreadResult(operations, latencies);
+    }
+}
@@ -0,0 +1,116 @@
+import java.util.Collections;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Клас ConcurrentScorpionRegistry - потокобезпечний варіант Map процесора
+ * {@link BasicDataOperationUsingMap}: реєстр скорпіонів і їхніх власників, з яким одночасно
+ * працюють багато потоків.
+ *
+ * <p>Реєстр підтримує ті самі операції, що й процесор: пошук, додавання і видалення за ключем,
+ * пошук і видалення за значенням. Сховище обирається {@link Backend}:</p>
+ * <ul>
+ *   <li>{@link Backend#CONCURRENT_HASH_MAP} - доступ за хешем без спільного блокування:
+ *   читання не блокуються, а записи блокують лише свій кошик таблиці;</li>
+ *   <li>{@link Backend#CONCURRENT_SKIP_LIST_MAP} - впорядкований доступ за
+ *   {@link BasicDataOperationUsingMap#SCORPION_COMPARATOR} замість TreeMap, без блокувань;</li>
+ *   <li>{@link Backend#HASHTABLE} і {@link Backend#SYNCHRONIZED_SCORPION_HASH_MAP} - Map з одним
+ *   монітором на всі операції, для порівняння.</li>
+ * </ul>
+ *
+ * <p>Операції за значенням переглядають усі записи: у конкурентних Map перегляд слабко
+ * узгоджений і не блокує інших потоків, а видалення кожного запису атомарне
+ * ({@code remove(key, value)}), тож запис, якому інший потік щойно змінив власника, не
+ * видаляється. У Map з одним монітором перегляд блокує всю Map.</p>
+ */
+class ConcurrentScorpionRegistry {
+    /**
+     * Сховище реєстру.
+     */
+    enum Backend {
+        /** {@link Hashtable}: один монітор на всі операції. */
+        HASHTABLE,
+        /** {@link ScorpionHashMap}, обгорнута {@link Collections#synchronizedMap(Map)}. */
+        SYNCHRONIZED_SCORPION_HASH_MAP,
+        /** {@link ConcurrentHashMap}: доступ за хешем. */
+        CONCURRENT_HASH_MAP,
+        /** {@link ConcurrentSkipListMap} з {@link BasicDataOperationUsingMap#SCORPION_COMPARATOR}: впорядкований доступ. */
+        CONCURRENT_SKIP_LIST_MAP
+    }
+
+    private final Backend backend;
+    private final Map<BasicDataOperationUsingMap.Scorpion, String> owners;
+
+    /**
+     * @param backend Сховище
+     * @param expectedSize Очікувана кількість записів для початкового розміру хеш-таблиць
+     */
+    ConcurrentScorpionRegistry(Backend backend, int expectedSize) {
+        this.backend = backend;
+        this.owners = switch (backend) {
+            case HASHTABLE -> new Hashtable<>(Math.max(16, (int) (expectedSize / 0.75f) + 1));
+            case SYNCHRONIZED_SCORPION_HASH_MAP -> Collections.synchronizedMap(new ScorpionHashMap<>(expectedSize));
+            case CONCURRENT_HASH_MAP -> new ConcurrentHashMap<>(expectedSize);
+            case CONCURRENT_SKIP_LIST_MAP -> new ConcurrentSkipListMap<>(BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+        };
+    }
+
+    Backend backend() {
+        return backend;
+    }
+
+    int size() {
+        return owners.size();
+    }
+
+    /**
+     * @return Власник скорпіона або null, якщо запису немає
+     */
+    String findByKey(BasicDataOperationUsingMap.Scorpion scorpion) {
+        return owners.get(scorpion);
+    }
+
+    /**
+     * Додає запис або замінює власника.
+     *
+     * @return Попередній власник або null
+     */
+    String addEntry(BasicDataOperationUsingMap.Scorpion scorpion, String owner) {
+        return owners.put(scorpion, owner);
+    }
+
+    /**
+     * @return Власник видаленого запису або null, якщо запису не було
+     */
+    String removeByKey(BasicDataOperationUsingMap.Scorpion scorpion) {
+        return owners.remove(scorpion);
+    }
+
+    /**
+     * Підраховує записи власника одним переглядом.
+     *
+     * @return Кількість записів на момент перегляду
+     */
+    long findByValue(String owner) {
+        LongAdder count = new LongAdder();
+        // forEach синхронізованих обгорток виконується під їхнім монітором
+        owners.values().forEach(value -> {
+            if (owner.equals(value)) {
+                count.increment();
+            }
+        });
+        return count.sum();
+    }
+
+    /**
+     * Видаляє всі записи власника.
+     *
+     * @return true, якщо видалено хоча б один запис
+     */
+    boolean removeByValue(String owner) {
+        return owners.values().removeIf(owner::equals);
+    }
+}
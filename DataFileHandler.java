@@ -1,55 +1,305 @@
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.stream.Collectors;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Клас DataFileHandler управляє роботою з файлами даних float.
  */
 public class DataFileHandler {
+    static final String BINARY_EXTENSION = ".bin";
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    // буфер форматування повторно використовується кожним потоком, що записує файли
+    private static final ThreadLocal<FloatTextWriter> TEXT_WRITER = ThreadLocal.withInitial(FloatTextWriter::new);
+
+    private static WriteBehindQueue writeBehindQueue;
+
+    /**
+     * Формат файлу для збереження масиву.
+     */
+    enum DataFormat {
+        /** Текстовий формат: одне значення у рядку. */
+        TEXT,
+        /** Двійковий формат {@link FloatBinaryFormat}. */
+        BINARY
+    }
+
     /**
      * Завантажує масив об'єктів float з файлу.
-     * 
+     *
      * @param filePath Шлях до файлу з даними.
      * @return Масив об'єктів float.
      */
     public static Float[] loadArrayFromFile(String filePath) {
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_DATE_TIME;
-        Float[] temporaryArray = new Float[1000];
-        int currentIndex = 0;
-
-        try (BufferedReader fileReader = new BufferedReader(new FileReader(filePath))) {
-            return fileReader.lines()
-                    .map(currentLine -> currentLine.trim().replaceAll("^\\uFEFF", ""))
-                    .filter(currentLine -> !currentLine.isEmpty())
-                    .map(currentLine -> Float.parseFloat(currentLine))
-                    .toArray(Float[]::new);
+        float[] values = loadFloatsFromFile(filePath);
+        Float[] boxedValues = new Float[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxedValues[i] = values[i];
+        }
+        return boxedValues;
+    }
+
+    /**
+     * Завантажує примітивний масив float з файлу.
+     *
+     * <p>Файл читається блоками у байтовий буфер, BOM відкидається один раз на початку файлу,
+     * а значення розбираються безпосередньо з байтів без створення рядків.</p>
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @return Масив значень float.
+     */
+    public static float[] loadFloatsFromFile(String filePath) {
+        return loadFloatsFromFile(filePath, null);
+    }
+
+    /**
+     * Завантажує примітивний масив float з файлу і під час того самого проходу
+     * передає кожне значення додатковому приймачу, наприклад ескізу квантилів.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param observer Додатковий приймач значень або null.
+     * @return Масив значень float.
+     */
+    public static float[] loadFloatsFromFile(String filePath, FloatTextParser.FloatSink observer) {
+        long fileSize;
+        try {
+            fileSize = Files.size(Path.of(filePath));
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+
+        // орієнтовно 8 байтів на рядок, щоб уникнути частих розширень масиву
+        FloatTextParser.FloatArrayBuilder builder =
+                new FloatTextParser.FloatArrayBuilder((int) Math.min(fileSize / 8, Integer.MAX_VALUE - 8));
+        if (observer == null) {
+            streamFloatsFromFile(filePath, builder);
+        } else {
+            streamFloatsFromFile(filePath, value -> {
+                builder.accept(value);
+                observer.accept(value);
+            });
+        }
+        return builder.toArray();
+    }
+
+    /**
+     * Послідовно передає всі значення float з текстового файлу до приймача,
+     * використовуючи буфер сталого розміру.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param sink Приймач значень.
+     */
+    public static void streamFloatsFromFile(String filePath, FloatTextParser.FloatSink sink) {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        FloatTextParser parser = new FloatTextParser();
+
+        try (InputStream inputStream = Files.newInputStream(Path.of(filePath))) {
+            int bytesRead = inputStream.readNBytes(buffer, 0, buffer.length);
+            int offset = FloatTextParser.byteOrderMarkLength(buffer, 0, bytesRead);
+            while (bytesRead > 0) {
+                parser.feed(buffer, offset, bytesRead, sink);
+                bytesRead = inputStream.readNBytes(buffer, 0, buffer.length);
+                offset = 0;
+            }
+            parser.finish(sink);
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+    }
+
+    /**
+     * Перевіряє, чи для текстового файлу є актуальна двійкова копія.
+     *
+     * @param filePath Шлях до текстового файлу з даними.
+     * @return true, якщо двійкову копію зроблено з поточного стану текстового файлу.
+     */
+    public static boolean hasFreshBinaryCopy(String filePath) {
+        return FloatBinaryFormat.isUpToDate(Path.of(filePath + BINARY_EXTENSION), Path.of(filePath));
+    }
+
+    /**
+     * Завантажує масив float, віддаючи перевагу двійковій копії файлу.
+     *
+     * <p>Якщо поруч з текстовим файлом є двійковий файл {@code .bin}, зроблений з поточного стану тексту,
+     * значення копіюються у масив одним блоком з відображеного у пам'ять двійкового файлу,
+     * без розбору тексту. Інакше текст розбирається, а двійкова копія створюється для
+     * наступних запусків.</p>
+     *
+     * @param filePath Шлях до текстового файлу з даними.
+     * @return Масив значень float.
+     */
+    public static float[] loadFloatsPreferringBinary(String filePath) {
+        return loadFloatsPreferringBinary(filePath, null);
+    }
+
+    /**
+     * Завантажує масив float, віддаючи перевагу двійковій копії файлу, і передає
+     * кожне значення додатковому приймачу під час завантаження.
+     *
+     * @param filePath Шлях до текстового файлу з даними.
+     * @param observer Додатковий приймач значень або null.
+     * @return Масив значень float.
+     */
+    public static float[] loadFloatsPreferringBinary(String filePath, FloatTextParser.FloatSink observer) {
+        if (hasFreshBinaryCopy(filePath)) {
+            try {
+                float[] values = FloatBinaryFormat.read(Path.of(filePath + BINARY_EXTENSION));
+                if (observer != null) {
+                    for (float value : values) {
+                        observer.accept(value);
+                    }
+                }
+                return values;
+            } catch (IOException ioException) {
+                System.out.println("Двійкову копію пошкоджено, дані буде прочитано з тексту: " + ioException.getMessage());
+            }
+        }
+
+        FloatBinaryFormat.SourceStamp sourceStamp = sourceStamp(filePath);
+        float[] values = loadFloatsFromFile(filePath, observer);
+        try {
+            FloatBinaryFormat.write(values, Path.of(filePath + BINARY_EXTENSION), sourceStamp);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+        return values;
+    }
+
+    /**
+     * Знімає позначку текстового файлу (розмір і час зміни) для його двійкової копії.
+     *
+     * @param filePath Шлях до текстового файлу з даними.
+     * @return Позначка вихідного файлу.
+     */
+    static FloatBinaryFormat.SourceStamp sourceStamp(String filePath) {
+        try {
+            return FloatBinaryFormat.SourceStamp.of(Path.of(filePath));
         } catch (IOException ioException) {
             throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
         }
     }
 
+    /**
+     * Зберігає масив значень float у файл вказаного формату.
+     *
+     * @param floatArray Масив значень float.
+     * @param filePath Шлях до файлу для збереження.
+     * @param format Формат файлу.
+     */
+    public static void writeArrayToFile(float[] floatArray, String filePath, DataFormat format) {
+        try {
+            writeArray(floatArray, Path.of(filePath), format);
+        } catch (IOException ioException) {
+            ioException.printStackTrace();
+        }
+    }
+
+    /**
+     * Зберігає масив значень float у текстовий файл.
+     *
+     * <p>Значення форматуються у буфер, що повторно використовується, і записуються блоками,
+     * без побудови рядка з усім вмістом файлу.</p>
+     *
+     * @param floatArray Масив значень float.
+     * @param filePath Шлях до файлу для збереження.
+     */
+    public static void writeArrayToFile(float[] floatArray, String filePath) {
+        writeArrayToFile(floatArray, filePath, DataFormat.TEXT);
+    }
+
     /**
      * Зберігає масив об'єктів float у файл.
-     * 
+     *
      * @param floatArray Масив об'єктів float.
      * @param filePath Шлях до файлу для збереження.
      */
     public static void writeArrayToFile(Float[] floatArray, String filePath) {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(filePath))) {
-            String content = Arrays.stream(floatArray)
-                    .map(String::valueOf)
-                    .collect(Collectors.joining(System.lineSeparator()));
-           
-            fileWriter.write(content);
+        float[] values = new float[floatArray.length];
+        for (int i = 0; i < floatArray.length; i++) {
+            values[i] = floatArray[i];
+        }
+        writeArrayToFile(values, filePath);
+    }
+
+    /**
+     * Вмикає режим відкладеного запису: наступні виклики {@link #writeArrayToFileBehind}
+     * та {@link #submitWrite} виконуються у фоновому потоці.
+     */
+    public static synchronized void enableWriteBehind() {
+        if (writeBehindQueue == null) {
+            writeBehindQueue = new WriteBehindQueue();
+        }
+    }
+
+    /**
+     * Передає масив на запис і одразу повертає керування, якщо увімкнено відкладений запис.
+     * Інакше записує файл негайно. Переданий масив не можна змінювати після виклику.
+     *
+     * @param floatArray Масив значень float.
+     * @param filePath Шлях до файлу для збереження.
+     * @param format Формат файлу.
+     */
+    public static void writeArrayToFileBehind(float[] floatArray, String filePath, DataFormat format) {
+        submitWrite("запис файлу " + filePath, () -> writeArray(floatArray, Path.of(filePath), format));
+    }
+
+    /**
+     * Виконує завдання запису у фоновому потоці або негайно, якщо відкладений запис вимкнено.
+     *
+     * @param description Опис завдання для повідомлень про помилки.
+     * @param task Завдання запису.
+     */
+    static void submitWrite(String description, WriteBehindQueue.WriteTask task) {
+        WriteBehindQueue queue;
+        synchronized (DataFileHandler.class) {
+            queue = writeBehindQueue;
+        }
 
+        if (queue != null) {
+            queue.submit(description, task);
+            return;
+        }
+
+        try {
+            task.run();
         } catch (IOException ioException) {
-            ioException.printStackTrace();
+            throw new RuntimeException("Помилка запису: " + description, ioException);
+        }
+    }
+
+    /**
+     * Очікує завершення всіх відкладених записів.
+     */
+    public static void flushPendingWrites() {
+        WriteBehindQueue queue;
+        synchronized (DataFileHandler.class) {
+            queue = writeBehindQueue;
+        }
+        if (queue != null) {
+            queue.flush();
+        }
+    }
+
+    /**
+     * Очікує завершення всіх відкладених записів і вимикає режим відкладеного запису.
+     */
+    public static void closeWriteBehind() {
+        WriteBehindQueue queue;
+        synchronized (DataFileHandler.class) {
+            queue = writeBehindQueue;
+            writeBehindQueue = null;
+        }
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    static void writeArray(float[] floatArray, Path path, DataFormat format) throws IOException {
+        if (format == DataFormat.BINARY) {
+            FloatBinaryFormat.write(floatArray, path);
+        } else {
+            TEXT_WRITER.get().write(floatArray, path);
         }
     }
 }
@@ -0,0 +1,84 @@
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Перелік DatasetType - реєстр типів даних, що зберігаються у каталозі {@code list/}.
+ *
+ * <p>Кожен тип знає назву свого файлу даних, ім'я для параметра {@code --type}
+ * та спосіб завантаження у примітивне сховище {@link TypedDataset}.</p>
+ */
+enum DatasetType {
+    FLOAT("float", "float.data"),
+    DOUBLE("double", "double.data"),
+    INT("int", "int.data"),
+    LONG("long", "long.data"),
+    SHORT("short", "short.data"),
+    BYTE("byte", "byte.data"),
+    LOCAL_DATE("LocalDate", "LocalDate.data"),
+    LOCAL_DATE_TIME("LocalDateTime", "LocalDateTime.data"),
+    LOCAL_TIME("LocalTime", "LocalTime.data"),
+    CHARACTER("Character", "Character.data"),
+    STRING("String", "String.data");
+
+    static final String DATA_DIRECTORY = "list/";
+
+    private final String optionName;
+    private final String fileName;
+
+    DatasetType(String optionName, String fileName) {
+        this.optionName = optionName;
+        this.fileName = fileName;
+    }
+
+    String optionName() {
+        return optionName;
+    }
+
+    String filePath() {
+        return DATA_DIRECTORY + fileName;
+    }
+
+    /**
+     * Повертає тип за ім'ям з командного рядка без урахування регістру.
+     *
+     * @param name Ім'я типу
+     * @return Тип або null, якщо такого типу немає
+     */
+    static DatasetType fromOptionName(String name) {
+        for (DatasetType type : values()) {
+            if (type.optionName.equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return Перелік допустимих імен типів через кому
+     */
+    static String optionNames() {
+        return Arrays.stream(values()).map(DatasetType::optionName).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Завантажує файл даних цього типу у примітивне сховище.
+     *
+     * @return Набір даних
+     */
+    TypedDataset load() {
+        String filePath = filePath();
+        return switch (this) {
+            case FLOAT -> TypedDataset.FloatValues.load(filePath);
+            case DOUBLE -> TypedDataset.DoubleValues.load(filePath);
+            case INT -> TypedDataset.IntValues.load(filePath);
+            case LONG -> TypedDataset.LongValues.load(filePath, TypedDataset.LongEncoding.PLAIN);
+            case SHORT -> TypedDataset.ShortValues.load(filePath);
+            case BYTE -> TypedDataset.ByteValues.load(filePath);
+            case LOCAL_DATE -> TypedDataset.LongValues.load(filePath, TypedDataset.LongEncoding.EPOCH_DAY);
+            case LOCAL_DATE_TIME -> TypedDataset.LongValues.load(filePath, TypedDataset.LongEncoding.EPOCH_SECOND);
+            case LOCAL_TIME -> TypedDataset.LongValues.load(filePath, TypedDataset.LongEncoding.NANO_OF_DAY);
+            case CHARACTER -> TypedDataset.CharValues.load(filePath);
+            case STRING -> TypedDataset.StringValues.load(filePath);
+        };
+    }
+}
@@ -0,0 +1,305 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас FloatBinaryFormat описує компактний двійковий формат для масивів float.
+ *
+ * <p>Структура файлу (little-endian):</p>
+ * <ul>
+ *   <li>4 байти - сигнатура {@code FLTB};</li>
+ *   <li>2 байти - версія формату;</li>
+ *   <li>2 байти - зарезервовано;</li>
+ *   <li>8 байтів - кількість елементів;</li>
+ *   <li>8 байтів - контрольна сума CRC32C вмісту;</li>
+ *   <li>8 байтів - розмір вихідного текстового файлу ({@code -1}, якщо копія не має вихідного файлу);</li>
+ *   <li>8 байтів - час зміни вихідного файлу в мілісекундах;</li>
+ *   <li>далі - значення float по 4 байти.</li>
+ * </ul>
+ *
+ * <p>Масиви int (наприклад, позиції відсортованого індексу) зберігаються в тому самому форматі
+ * з сигнатурою {@code INTB}, тож файл одного типу не можна прочитати як інший.</p>
+ *
+ * <p>Приклад конвертації текстового файлу:</p>
+ * <pre>
+ * {@code
+ * java FloatBinaryFormat list/float.data list/float.data.bin
+ * }
+ * </pre>
+ */
+public class FloatBinaryFormat {
+    static final int MAGIC = 0x42544C46; // "FLTB" у порядку little-endian
+    static final int INT_MAGIC = 0x42544E49; // "INTB" у порядку little-endian
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 40;
+
+    private static final int WRITE_BLOCK_SIZE = 1 << 16;
+    // float та int займають по 4 байти, тож блок вміщує однакову кількість елементів обох типів
+    private static final int ELEMENT_SIZE = Float.BYTES;
+
+    /**
+     * Заповнює блок запису елементами масиву, починаючи з указаного зміщення, на всю довжину блоку.
+     */
+    @FunctionalInterface
+    private interface BlockFiller {
+        void fill(ByteBuffer block, int offset);
+    }
+
+    /**
+     * Стан вихідного текстового файлу, з якого зроблено двійкову копію.
+     *
+     * @param size Розмір файлу в байтах
+     * @param lastModified Час останньої зміни в мілісекундах
+     */
+    record SourceStamp(long size, long lastModified) {
+        /** Позначка копії, що не має вихідного текстового файлу. */
+        static final SourceStamp NONE = new SourceStamp(-1, 0);
+
+        static SourceStamp of(Path path) throws IOException {
+            return new SourceStamp(Files.size(path), Files.getLastModifiedTime(path).toMillis());
+        }
+    }
+
+    /**
+     * Записує масив float у двійковий файл без позначки вихідного файлу.
+     *
+     * @param values Масив значень.
+     * @param path Шлях до файлу.
+     * @throws IOException Якщо запис не вдався.
+     */
+    static void write(float[] values, Path path) throws IOException {
+        write(values, path, SourceStamp.NONE);
+    }
+
+    /**
+     * Записує масив float у двійковий файл з позначкою вихідного текстового файлу.
+     * Позначку слід знімати до читання тексту: якщо текст зміниться під час читання,
+     * копія лишиться неактуальною і буде перезаписана.
+     *
+     * @param values Масив значень.
+     * @param path Шлях до файлу.
+     * @param sourceStamp Стан вихідного файлу, з якого прочитано значення.
+     * @throws IOException Якщо запис не вдався.
+     */
+    static void write(float[] values, Path path, SourceStamp sourceStamp) throws IOException {
+        writePayload(path, MAGIC, values.length, sourceStamp, (block, offset) ->
+                block.asFloatBuffer().put(values, offset, block.remaining() / ELEMENT_SIZE));
+    }
+
+    /**
+     * Записує масив int у двійковий файл із сигнатурою {@code INTB}.
+     *
+     * @param values Масив значень.
+     * @param path Шлях до файлу.
+     * @throws IOException Якщо запис не вдався.
+     */
+    static void writeInts(int[] values, Path path) throws IOException {
+        writePayload(path, INT_MAGIC, values.length, SourceStamp.NONE, (block, offset) ->
+                block.asIntBuffer().put(values, offset, block.remaining() / ELEMENT_SIZE));
+    }
+
+    private static void writePayload(Path path, int magic, int count, SourceStamp sourceStamp,
+            BlockFiller blockFiller) throws IOException {
+        CRC32C checksum = new CRC32C();
+        ByteBuffer block = ByteBuffer.allocateDirect(WRITE_BLOCK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        int blockCapacity = WRITE_BLOCK_SIZE / ELEMENT_SIZE;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = HEADER_SIZE;
+            for (int offset = 0; offset < count; ) {
+                int length = Math.min(blockCapacity, count - offset);
+                block.clear().limit(length * ELEMENT_SIZE);
+                blockFiller.fill(block, offset);
+
+                checksum.update(block.duplicate());
+                while (block.hasRemaining()) {
+                    position += channel.write(block, position);
+                }
+                offset += length;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(magic)
+                  .putShort(VERSION)
+                  .putShort((short) 0)
+                  .putLong(count)
+                  .putLong(checksum.getValue())
+                  .putLong(sourceStamp.size())
+                  .putLong(sourceStamp.lastModified())
+                  .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        }
+    }
+
+    /**
+     * Відображає двійковий файл у пам'ять без копіювання даних.
+     * Перевіряє сигнатуру, версію, розмір і контрольну суму.
+     *
+     * @param path Шлях до файлу.
+     * @return Буфер лише для читання зі значеннями float.
+     * @throws IOException Якщо файл пошкоджений або не може бути прочитаний.
+     */
+    static FloatBuffer map(Path path) throws IOException {
+        return mapPayload(path, MAGIC).asFloatBuffer();
+    }
+
+    /**
+     * Читає двійковий файл із сигнатурою {@code INTB} у масив int.
+     *
+     * @param path Шлях до файлу.
+     * @return Масив значень.
+     * @throws IOException Якщо файл пошкоджений або не може бути прочитаний.
+     */
+    static int[] readInts(Path path) throws IOException {
+        IntBuffer intBuffer = mapPayload(path, INT_MAGIC).asIntBuffer();
+        int[] values = new int[intBuffer.remaining()];
+        intBuffer.get(values);
+        return values;
+    }
+
+    /**
+     * Відображає файл, перевіряє заголовок і контрольну суму та повертає вміст після заголовка.
+     */
+    private static ByteBuffer mapPayload(Path path, int magic) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE) {
+                throw new IOException("Файл закороткий для двійкового формату: " + path);
+            }
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Файл завеликий для відображення у пам'ять: " + path);
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (mapped.getInt(0) != magic) {
+                throw new IOException("Невідома сигнатура двійкового файлу: " + path);
+            }
+            if (mapped.getShort(4) != VERSION) {
+                throw new IOException("Непідтримувана версія двійкового файлу: " + mapped.getShort(4));
+            }
+            long count = mapped.getLong(8);
+            if (count < 0 || HEADER_SIZE + count * ELEMENT_SIZE != fileSize) {
+                throw new IOException("Кількість елементів не відповідає розміру файлу: " + path);
+            }
+
+            ByteBuffer payload = mapped.slice(HEADER_SIZE, (int) (count * ELEMENT_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C checksum = new CRC32C();
+            checksum.update(payload.duplicate());
+            if (checksum.getValue() != mapped.getLong(16)) {
+                throw new IOException("Контрольна сума не збігається: " + path);
+            }
+
+            return payload;
+        }
+    }
+
+    /**
+     * Читає двійковий файл у масив float: відображає його через {@link #map(Path)} і копіює
+     * значення одним блоком. Процесори працюють з масивом {@code float[]}, тож ця копія -
+     * єдина, яку робить завантаження.
+     *
+     * @param path Шлях до файлу.
+     * @return Масив значень.
+     * @throws IOException Якщо файл пошкоджений або не може бути прочитаний.
+     */
+    static float[] read(Path path) throws IOException {
+        FloatBuffer floatBuffer = map(path);
+        float[] values = new float[floatBuffer.remaining()];
+        floatBuffer.get(values);
+        return values;
+    }
+
+    /**
+     * Перевіряє, чи двійкова копія зроблена з поточного стану текстового файлу: розмір і час
+     * зміни тексту мають збігатися з позначкою в заголовку копії. Час зміни самої копії
+     * не враховується, тож копію, записану в той самий момент, що й текст, не перезаписуємо.
+     *
+     * @param binaryPath Шлях до двійкового файлу.
+     * @param textPath Шлях до текстового файлу.
+     * @return true, якщо двійкову копію можна використовувати.
+     */
+    static boolean isUpToDate(Path binaryPath, Path textPath) {
+        if (!Files.exists(binaryPath)) {
+            return false;
+        }
+        try {
+            return readSourceStamp(binaryPath).equals(SourceStamp.of(textPath));
+        } catch (IOException ioException) {
+            return false;
+        }
+    }
+
+    /**
+     * Читає з заголовка двійкового файлу float позначку вихідного файлу, не читаючи значень.
+     *
+     * @param path Шлях до двійкового файлу.
+     * @return Позначка вихідного файлу.
+     * @throws IOException Якщо заголовок пошкоджений або файл не може бути прочитаний.
+     */
+    static SourceStamp readSourceStamp(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int bytesRead = 0;
+            while (header.hasRemaining() && bytesRead >= 0) {
+                bytesRead = channel.read(header);
+            }
+        }
+        if (header.hasRemaining()) {
+            throw new IOException("Файл закороткий для двійкового формату: " + path);
+        }
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Невідома сигнатура двійкового файлу: " + path);
+        }
+        if (header.getShort(4) != VERSION) {
+            throw new IOException("Непідтримувана версія двійкового файлу: " + header.getShort(4));
+        }
+        return new SourceStamp(header.getLong(24), header.getLong(32));
+    }
+
+    /**
+     * Конвертує текстовий файл з даними float у двійковий формат.
+     *
+     * @param textFilePath Шлях до текстового файлу.
+     * @param binaryFilePath Шлях до двійкового файлу.
+     * @return Кількість записаних елементів.
+     */
+    static int convertTextFile(String textFilePath, String binaryFilePath) {
+        SourceStamp sourceStamp = DataFileHandler.sourceStamp(textFilePath);
+        float[] values = DataFileHandler.loadFloatsFromFile(textFilePath);
+        try {
+            write(values, Path.of(binaryFilePath), sourceStamp);
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка запису даних у файл: " + binaryFilePath, ioException);
+        }
+        return values.length;
+    }
+
+    /**
+     * Конвертує текстовий файл, вказаний у командному рядку.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.out.println("Використання: java FloatBinaryFormat list/float.data [list/float.data.bin]");
+            return;
+        }
+
+        String binaryFilePath = args.length == 2 ? args[1] : args[0] + DataFileHandler.BINARY_EXTENSION;
+        long timeStart = System.nanoTime();
+        int count = convertTextFile(args[0], binaryFilePath);
+        PerformanceTracker.displayOperationTime(timeStart, "конвертація у двійковий формат");
+        System.out.println("Записано " + count + " елементів у файл " + binaryFilePath);
+    }
+}
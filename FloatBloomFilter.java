@@ -0,0 +1,178 @@
+/**
+ * Клас FloatBloomFilter - блоковий фільтр Блума для швидкої відповіді на промахи пошуку.
+ *
+ * <p>Фільтр відповідає «точно відсутнє» або «можливо присутнє». Біти розбиті на блоки по
+ * {@value #BLOCK_BITS} біт (одна лінія кешу), і всі біти значення лежать в одному блоці,
+ * тож перевірка читає одну лінію кешу: промах визначається за кілька наносекунд без звернення
+ * до основної структури. Плата за локальність - нерівномірне заповнення блоків, через яке
+ * частка хибнопозитивних відповідей вища, ніж у класичного фільтра того ж розміру. Тому розмір
+ * підбирається за моделлю блокового фільтра: кількість значень у блоці має розподіл Пуассона,
+ * і розмір збільшується, доки очікувана частка не стане не більшою за задану.</p>
+ *
+ * <p>Значення порівнюються як {@link Float#floatToIntBits(float)}, як у {@link FloatHashSet}:
+ * усі NaN рівні між собою, а 0.0 і -0.0 різні. Фільтр не підтримує видалення; якщо основна
+ * структура втратила значення, фільтр лишається її надмножиною і відповідає правильно.</p>
+ */
+class FloatBloomFilter {
+    static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+    private static final int BLOCK_BITS = 512;
+    private static final int BLOCK_WORDS = BLOCK_BITS / Long.SIZE;
+    private static final int BLOCK_BITS_SHIFT = Integer.numberOfTrailingZeros(BLOCK_BITS);
+    private static final int PROBES_PER_HASH = Long.SIZE / BLOCK_BITS_SHIFT;
+    private static final int MAX_HASH_COUNT = 16;
+    private static final double SIZE_GROWTH_FACTOR = 1.05;
+
+    private final long[] words;
+    private final int blockCount;
+    private final int hashCount;
+    private final double falsePositiveRate;
+
+    private FloatBloomFilter(int blockCount, int hashCount, double falsePositiveRate) {
+        this.words = new long[blockCount * BLOCK_WORDS];
+        this.blockCount = blockCount;
+        this.hashCount = hashCount;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Будує фільтр над значеннями масиву.
+     *
+     * @param values Значення; масив не змінюється
+     * @param falsePositiveRate Бажана частка хибнопозитивних відповідей, від 0 до 1 (не включно)
+     * @return Фільтр
+     * @throws IllegalArgumentException Якщо частка поза межами (0, 1)
+     */
+    static FloatBloomFilter build(float[] values, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("Частка хибнопозитивних відповідей має бути в межах (0, 1): " + falsePositiveRate);
+        }
+
+        // початок - класична оцінка m = -n ln p / (ln 2)^2 біт на n значень
+        double ln2 = Math.log(2);
+        double bitsPerValue = -Math.log(falsePositiveRate) / (ln2 * ln2);
+        int hashCount;
+        while (true) {
+            hashCount = (int) Math.max(1, Math.min(MAX_HASH_COUNT, Math.round(bitsPerValue * ln2)));
+            if (expectedFalsePositiveRate(BLOCK_BITS / bitsPerValue, hashCount) <= falsePositiveRate) {
+                break;
+            }
+            bitsPerValue *= SIZE_GROWTH_FACTOR;
+        }
+        long bitCount = (long) Math.ceil(Math.max(values.length, 1) * bitsPerValue);
+        int blockCount = (int) Math.min((bitCount + BLOCK_BITS - 1) / BLOCK_BITS, Integer.MAX_VALUE / BLOCK_WORDS);
+
+        FloatBloomFilter filter = new FloatBloomFilter(blockCount, hashCount, falsePositiveRate);
+        for (float value : values) {
+            filter.add(value);
+        }
+        return filter;
+    }
+
+    /**
+     * @return false, якщо значення точно відсутнє; true, якщо воно можливо присутнє
+     */
+    boolean mightContain(float value) {
+        long hash = mix(Float.floatToIntBits(value));
+        int base = blockIndex(hash) * BLOCK_WORDS;
+        // позиції в блоці - незалежні групи по 9 біт окремого хешу, незалежного від номера блоку
+        long probeHash = hash;
+        for (int i = 0; i < hashCount; i++) {
+            if (i % PROBES_PER_HASH == 0) {
+                probeHash = mix(probeHash);
+            }
+            int bit = (int) (probeHash >>> (i % PROBES_PER_HASH * BLOCK_BITS_SHIFT)) & (BLOCK_BITS - 1);
+            if ((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Записує результат пошуку до лічильників звіту {@link PerformanceTracker}.
+     *
+     * @param mightContain Відповідь фільтра
+     * @param found Чи знайшла значення основна структура
+     */
+    static void recordLookup(boolean mightContain, boolean found) {
+        if (!mightContain) {
+            PerformanceTracker.incrementCounter("фільтр Блума: промахи без звернення до структури");
+        } else if (found) {
+            PerformanceTracker.incrementCounter("фільтр Блума: влучання");
+        } else {
+            PerformanceTracker.incrementCounter("фільтр Блума: хибнопозитивні відповіді");
+        }
+    }
+
+    /**
+     * @return Розмір фільтра в бітах
+     */
+    long bitCount() {
+        return (long) words.length * Long.SIZE;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return Частка хибнопозитивних відповідей, для якої побудовано фільтр
+     */
+    double falsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    private void add(float value) {
+        long hash = mix(Float.floatToIntBits(value));
+        int base = blockIndex(hash) * BLOCK_WORDS;
+        long probeHash = hash;
+        for (int i = 0; i < hashCount; i++) {
+            if (i % PROBES_PER_HASH == 0) {
+                probeHash = mix(probeHash);
+            }
+            int bit = (int) (probeHash >>> (i % PROBES_PER_HASH * BLOCK_BITS_SHIFT)) & (BLOCK_BITS - 1);
+            words[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Очікувана частка хибнопозитивних відповідей блокового фільтра: для блоку з j значеннями
+     * вона дорівнює (1 - (1 - 1/B)^(k j))^k, а j має розподіл Пуассона із середнім valuesPerBlock.
+     *
+     * <p>Ймовірності Пуассона обчислюються в логарифмах: при високих частках у блоці сотні
+     * значень, і {@code exp(-valuesPerBlock)} обнулився б, а з ним і вся сума. Додаються лише
+     * члени в межах десяти стандартних відхилень від середнього, решта зневажливо малі.</p>
+     */
+    private static double expectedFalsePositiveRate(double valuesPerBlock, int hashCount) {
+        double emptyBitPerValue = Math.pow(1.0 - 1.0 / BLOCK_BITS, hashCount);
+        double logMean = Math.log(valuesPerBlock);
+        double logProbability = -valuesPerBlock;
+        double rate = 0;
+        double spread = 10 * Math.sqrt(valuesPerBlock) + 10;
+        int minValuesInBlock = (int) Math.max(0, valuesPerBlock - spread);
+        int maxValuesInBlock = (int) (valuesPerBlock + spread);
+        for (int j = 0; j <= maxValuesInBlock; j++) {
+            if (j >= minValuesInBlock) {
+                rate += Math.exp(logProbability) * Math.pow(1.0 - Math.pow(emptyBitPerValue, j), hashCount);
+            }
+            logProbability += logMean - Math.log(j + 1);
+        }
+        return rate;
+    }
+
+    private int blockIndex(long hash) {
+        // старші біти хешу, відображені на кількість блоків без ділення
+        return (int) (((hash >>> 40) * blockCount) >>> 24);
+    }
+
+    private static long mix(long key) {
+        // фіналізатор MurmurHash3: кожен біт ключа впливає на всі біти результату
+        long hash = key * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Клас FloatDataset об'єднує завантажений набір даних float і похідні від нього артефакти.
+ *
+ * <p>Координатор готує артефакти один раз, а процесори List, Queue та Set лише читають їх.
+ * Масиви, отримані з набору, не змінюються на місці.</p>
+ */
+public class FloatDataset {
+    // півширина околу шуканого значення для запитів у діапазоні
+    static final float RANGE_HALF_WIDTH = 10_000f;
+
+    private final float[] values;
+    private FloatSortedIndex sortedIndex;
+    private FloatKllSketch quantileSketch;
+    private FloatBloomFilter bloomFilter;
+    private FloatZoneMap zoneMap;
+
+    /**
+     * Конструктор, який створює набір даних з масиву у порядку файлу.
+     *
+     * @param values Значення у порядку файлу
+     */
+    FloatDataset(float[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @return Значення у порядку файлу
+     */
+    float[] values() {
+        return values;
+    }
+
+    /**
+     * Повертає відсортований індекс набору, будуючи його під час першого звернення.
+     *
+     * @return Індекс набору
+     */
+    synchronized FloatSortedIndex sortedIndex() {
+        if (sortedIndex == null) {
+            sortedIndex = FloatSortedIndex.build(values);
+        }
+        return sortedIndex;
+    }
+
+    /**
+     * Створює знімок набору для окремого аналізу.
+     *
+     * <p>Знімок спільно використовує масиви без копіювання (копіювання під час запису):
+     * масиви набору ніколи не змінюються на місці, а процесор, якому потрібно змінити дані,
+     * працює з власною копією. Артефакти, приєднані до знімка пізніше, не впливають на оригінал.</p>
+     *
+     * @return Незалежний знімок набору даних
+     */
+    synchronized FloatDataset snapshot() {
+        FloatDataset snapshot = new FloatDataset(values);
+        snapshot.sortedIndex = sortedIndex;
+        snapshot.quantileSketch = quantileSketch;
+        snapshot.bloomFilter = bloomFilter;
+        snapshot.zoneMap = zoneMap;
+        return snapshot;
+    }
+
+    /**
+     * Приєднує побудований відсортований індекс набору.
+     *
+     * @param sortedIndex Індекс над значеннями цього набору
+     */
+    synchronized void attachSortedIndex(FloatSortedIndex sortedIndex) {
+        this.sortedIndex = sortedIndex;
+    }
+
+    /**
+     * @return Ескіз квантилів, наповнений під час завантаження, або null
+     */
+    synchronized FloatKllSketch quantileSketch() {
+        return quantileSketch;
+    }
+
+    /**
+     * Приєднує ескіз квантилів, наповнений під час завантаження набору.
+     *
+     * @param quantileSketch Ескіз над значеннями цього набору
+     */
+    synchronized void attachQuantileSketch(FloatKllSketch quantileSketch) {
+        this.quantileSketch = quantileSketch;
+    }
+
+    /**
+     * Повертає фільтр Блума набору, будуючи його з частиною хибнопозитивних відповідей
+     * за замовчуванням під час першого звернення.
+     *
+     * @return Фільтр над значеннями набору
+     */
+    synchronized FloatBloomFilter bloomFilter() {
+        if (bloomFilter == null) {
+            bloomFilter = FloatBloomFilter.build(values, FloatBloomFilter.DEFAULT_FALSE_POSITIVE_RATE);
+        }
+        return bloomFilter;
+    }
+
+    /**
+     * Приєднує фільтр Блума, побудований після завантаження набору.
+     *
+     * @param bloomFilter Фільтр над значеннями цього набору
+     */
+    synchronized void attachBloomFilter(FloatBloomFilter bloomFilter) {
+        this.bloomFilter = bloomFilter;
+    }
+
+    /**
+     * Повертає карту зон набору, будуючи її окремим проходом, якщо її не приєднано під час завантаження.
+     *
+     * @return Карта зон над значеннями набору у порядку файлу
+     */
+    synchronized FloatZoneMap zoneMap() {
+        if (zoneMap == null) {
+            zoneMap = FloatZoneMap.of(values);
+        }
+        return zoneMap;
+    }
+
+    /**
+     * Приєднує карту зон, побудовану під час завантаження набору.
+     *
+     * @param zoneMap Карта зон над значеннями цього набору
+     */
+    synchronized void attachZoneMap(FloatZoneMap zoneMap) {
+        this.zoneMap = zoneMap;
+    }
+}
@@ -0,0 +1,177 @@
+import java.util.Arrays;
+
+/**
+ * Клас FloatHashSet - множина примітивних float з відкритою адресацією.
+ *
+ * <p>Елементи зберігаються як {@link Float#floatToIntBits(float)} у масиві {@code int} з лінійним
+ * зондуванням, тож рівність збігається з {@link Float#equals(Object)}: усі NaN рівні між собою,
+ * а {@code -0.0} та {@code 0.0} - різні елементи. Порожня комірка позначається бітовим шаблоном
+ * NaN, який {@code floatToIntBits} ніколи не повертає. Перевірка наявності не виділяє пам'яті.</p>
+ *
+ * <p>У режимі порядку вставлення множина додатково зберігає елементи у щільному масиві,
+ * як {@link java.util.LinkedHashSet}. Таблиця заповнюється не більше ніж наполовину,
+ * тому елемент займає 8-16 байт (плюс 4 байти в режимі порядку вставлення).</p>
+ */
+class FloatHashSet {
+    // floatToIntBits зводить усі NaN до 0x7fc00000, тож цей шаблон ніколи не є ключем
+    private static final int EMPTY = 0xFFFFFFFF;
+    private static final int MIN_CAPACITY = 16;
+    // найбільший степінь двійки, що є допустимою довжиною масиву; таблиця вміщує половину
+    private static final int MAX_CAPACITY = 1 << 30;
+    static final int MAX_SIZE = MAX_CAPACITY >> 1;
+
+    private final boolean keepInsertionOrder;
+    private int[] table;
+    private int mask;
+    private int size;
+    private float[] insertionOrder;
+
+    /**
+     * @param expectedSize Очікувана кількість елементів
+     * @param keepInsertionOrder true, щоб зберігати порядок вставлення
+     * @throws IllegalArgumentException Якщо очікувана кількість перевищує {@link #MAX_SIZE}
+     */
+    FloatHashSet(int expectedSize, boolean keepInsertionOrder) {
+        this.keepInsertionOrder = keepInsertionOrder;
+        int capacity = tableCapacity(expectedSize);
+        this.table = newTable(capacity);
+        this.mask = capacity - 1;
+        this.insertionOrder = keepInsertionOrder ? new float[Math.max(expectedSize, MIN_CAPACITY)] : null;
+    }
+
+    /**
+     * Створює множину з усіх значень масиву.
+     */
+    static FloatHashSet of(float[] values, boolean keepInsertionOrder) {
+        FloatHashSet set = new FloatHashSet(values.length, keepInsertionOrder);
+        for (float value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * Додає значення.
+     *
+     * @return true, якщо значення ще не було в множині
+     * @throws IllegalStateException Якщо множина вже містить {@link #MAX_SIZE} елементів
+     */
+    boolean add(float value) {
+        int key = Float.floatToIntBits(value);
+        int slot = slotOf(key);
+        while (table[slot] != EMPTY) {
+            if (table[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == MAX_SIZE) {
+            // таблиця найбільшої місткості вже заповнена наполовину і не може вирости
+            throw new IllegalStateException("Множина не може містити більше " + MAX_SIZE + " елементів");
+        }
+        table[slot] = key;
+
+        if (keepInsertionOrder) {
+            if (size == insertionOrder.length) {
+                insertionOrder = Arrays.copyOf(insertionOrder, size + (size >> 1));
+            }
+            insertionOrder[size] = value;
+        }
+        if (++size > (mask + 1) >> 1) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Перевіряє наявність значення за O(1) без виділення пам'яті.
+     */
+    boolean contains(float value) {
+        int key = Float.floatToIntBits(value);
+        int slot = slotOf(key);
+        int current;
+        while ((current = table[slot]) != EMPTY) {
+            if (current == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Передає всі значення приймачу: у порядку вставлення, якщо він зберігається,
+     * інакше - у порядку таблиці.
+     */
+    void forEach(FloatTextParser.FloatSink sink) {
+        if (keepInsertionOrder) {
+            for (int i = 0; i < size; i++) {
+                sink.accept(insertionOrder[i]);
+            }
+            return;
+        }
+        for (int key : table) {
+            if (key != EMPTY) {
+                sink.accept(Float.intBitsToFloat(key));
+            }
+        }
+    }
+
+    /**
+     * @return Усі значення у порядку {@link #forEach(FloatTextParser.FloatSink)}
+     */
+    float[] toArray() {
+        if (keepInsertionOrder) {
+            return Arrays.copyOf(insertionOrder, size);
+        }
+        FloatTextParser.FloatArrayBuilder builder = new FloatTextParser.FloatArrayBuilder(size);
+        forEach(builder);
+        return builder.toArray();
+    }
+
+    private int slotOf(int key) {
+        // перемішування бітів, щоб близькі значення не утворювали довгих ланцюжків
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void resize() {
+        int[] oldTable = table;
+        table = newTable(oldTable.length << 1);
+        mask = table.length - 1;
+        for (int key : oldTable) {
+            if (key != EMPTY) {
+                int slot = slotOf(key);
+                while (table[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = key;
+            }
+        }
+    }
+
+    private static int tableCapacity(int expectedSize) {
+        if (expectedSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Множина не може містити більше " + MAX_SIZE + " елементів: " + expectedSize);
+        }
+        int capacity = MIN_CAPACITY;
+        while (capacity >> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
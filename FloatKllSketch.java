@@ -0,0 +1,311 @@
+import java.util.Arrays;
+
+/**
+ * Клас FloatKllSketch - потоковий ескіз квантилів KLL (Karnin, Lang, Liberty) для float.
+ *
+ * <p>Ескіз зберігає ієрархію компакторів: значення рівня h мають вагу 2^h. Коли рівень
+ * переповнюється, він сортується, і кожне друге значення (з випадковим зсувом) переходить
+ * на рівень вище, а решта відкидається. Місткість рівнів спадає геометрично з коефіцієнтом
+ * 2/3 від верхнього рівня, тож ескіз тримає O(k) значень незалежно від обсягу потоку.
+ * Сортується лише нульовий рівень: вищі рівні завжди відсортовані, і значення, що переходять
+ * на них, зливаються з наявними за лінійний час.</p>
+ *
+ * <p>Похибка: оцінений ранг квантиля відрізняється від точного не більш ніж на частку ε
+ * від кількості значень; для k = 200 ε ≈ 1.33% з імовірністю 99% (емпірична оцінка
+ * DataSketches для цієї схеми компакторів), і ε зменшується приблизно як 1/k.
+ * Найменше і найбільше значення зберігаються точно.</p>
+ *
+ * <p>Ескізи можна об'єднувати: ескіз частини файлу, побудований в окремому потоці,
+ * додається до загального через {@link #merge(FloatKllSketch)} з тією самою гарантією похибки.
+ * Порядок - {@link Float#compare(float, float)}. Випадкові зсуви детерміновані, тож однаковий
+ * потік дає однаковий ескіз. Екземпляр не є потокобезпечним.</p>
+ */
+class FloatKllSketch implements FloatTextParser.FloatSink {
+    static final int DEFAULT_K = 200;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final long RANDOM_SEED = 0x9E3779B97F4A7C15L;
+
+    private final int k;
+    private int[][] levels = new int[1][];
+    private int[] levelSizes = new int[1];
+    private int[] levelCapacities;
+    private int levelCount = 1;
+    private int retainedCount;
+    private int maxRetainedCount;
+    private long count;
+    private int minKey = Integer.MAX_VALUE;
+    private int maxKey = Integer.MIN_VALUE;
+    private long randomState = RANDOM_SEED;
+
+    FloatKllSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * @param k Параметр точності: місткість верхнього рівня
+     */
+    FloatKllSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("Параметр k має бути не менше " + MIN_LEVEL_CAPACITY + ": " + k);
+        }
+        this.k = k;
+        updateCapacities();
+        this.levels[0] = new int[levelCapacities[0]];
+    }
+
+    /**
+     * Додає значення до ескізу.
+     */
+    @Override
+    public void accept(float value) {
+        int key = FloatSortedIndex.sortableBits(value);
+        minKey = Math.min(minKey, key);
+        maxKey = Math.max(maxKey, key);
+        count++;
+
+        append(0, key);
+        if (retainedCount >= maxRetainedCount) {
+            compress();
+        }
+    }
+
+    /**
+     * Додає всі значення масиву.
+     */
+    void acceptAll(float[] values) {
+        for (float value : values) {
+            accept(value);
+        }
+    }
+
+    /**
+     * Додає до ескізу значення іншого ескізу. Інший ескіз не змінюється.
+     *
+     * @param other Ескіз іншої частини потоку
+     */
+    void merge(FloatKllSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        while (levelCount < other.levelCount) {
+            addLevel();
+        }
+        for (int level = 0; level < other.levelCount; level++) {
+            for (int i = 0; i < other.levelSizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+            // рівні вище нульового мають лишатися відсортованими для злиття при компактуванні
+            if (level > 0) {
+                Arrays.sort(levels[level], 0, levelSizes[level]);
+            }
+        }
+        count += other.count;
+        minKey = Math.min(minKey, other.minKey);
+        maxKey = Math.max(maxKey, other.maxKey);
+
+        while (retainedCount >= maxRetainedCount) {
+            compress();
+        }
+    }
+
+    /**
+     * @return Кількість значень, поданих до ескізу
+     */
+    long count() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return Кількість значень, що зберігаються в ескізі
+     */
+    int retainedCount() {
+        return retainedCount;
+    }
+
+    int k() {
+        return k;
+    }
+
+    /**
+     * @return Оцінка частки похибки рангу з імовірністю 99% для параметра k
+     */
+    double normalizedRankError() {
+        return 2.296 / Math.pow(k, 0.9723);
+    }
+
+    /**
+     * Оцінює квантиль за найближчим рангом, як {@link FloatQuantiles#exact(float[], double)}.
+     *
+     * @param quantile Квантиль від 0 до 1
+     * @return Оцінка значення квантиля; для 0 і 1 - точні мінімум і максимум
+     * @throws IllegalStateException Якщо ескіз порожній
+     */
+    float quantile(double quantile) {
+        return quantiles(new double[] {quantile})[0];
+    }
+
+    /**
+     * Оцінює кілька квантилів за одне сортування збережених значень.
+     *
+     * @param quantiles Квантилі від 0 до 1
+     * @return Оцінки у порядку аргументів
+     * @throws IllegalStateException Якщо ескіз порожній
+     */
+    float[] quantiles(double[] quantiles) {
+        if (count == 0) {
+            throw new IllegalStateException("Ескіз порожній");
+        }
+
+        // збережені значення разом з рівнем (вагою), упорядковані за значенням
+        long[] weighted = new long[retainedCount];
+        int position = 0;
+        for (int level = 0; level < levelCount; level++) {
+            for (int i = 0; i < levelSizes[level]; i++) {
+                weighted[position++] = ((long) levels[level][i] << 32) | level;
+            }
+        }
+        Arrays.sort(weighted);
+
+        float[] results = new float[quantiles.length];
+        for (int q = 0; q < quantiles.length; q++) {
+            long targetRank = FloatQuantiles.rankIndex(quantiles[q], count) + 1;
+            if (targetRank <= 1) {
+                results[q] = FloatMinMaxKernel.fromSortableBits(minKey);
+                continue;
+            }
+            if (targetRank >= count) {
+                results[q] = FloatMinMaxKernel.fromSortableBits(maxKey);
+                continue;
+            }
+
+            long cumulativeWeight = 0;
+            int key = maxKey;
+            for (long entry : weighted) {
+                cumulativeWeight += 1L << (int) entry;
+                if (cumulativeWeight >= targetRank) {
+                    key = (int) (entry >>> 32);
+                    break;
+                }
+            }
+            results[q] = FloatMinMaxKernel.fromSortableBits(key);
+        }
+        return results;
+    }
+
+    private void append(int level, int key) {
+        if (levelSizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][levelSizes[level]++] = key;
+        retainedCount++;
+    }
+
+    /**
+     * Компактує найнижчий переповнений рівень: половина його значень з подвоєною
+     * вагою переходить на рівень вище.
+     */
+    private void compress() {
+        for (int level = 0; level < levelCount; level++) {
+            if (levelSizes[level] < levelCapacities[level]) {
+                continue;
+            }
+            if (level + 1 == levelCount) {
+                addLevel();
+            }
+
+            int[] keys = levels[level];
+            int size = levelSizes[level];
+            // непарне значення лишається на рівні, щоб сума ваг не змінилась
+            int compactedSize = size & ~1;
+            if (level == 0) {
+                sortPrefix(keys, compactedSize);
+            }
+
+            int[] target = levels[level + 1];
+            int targetSize = levelSizes[level + 1];
+            int promotedCount = compactedSize >>> 1;
+            if (targetSize + promotedCount > target.length) {
+                target = Arrays.copyOf(target, Math.max(target.length * 2, targetSize + promotedCount));
+                levels[level + 1] = target;
+            }
+            mergePromoted(keys, nextRandomBit(), promotedCount, target, targetSize);
+            levelSizes[level + 1] = targetSize + promotedCount;
+
+            if (compactedSize < size) {
+                keys[0] = keys[size - 1];
+            }
+            levelSizes[level] = size - compactedSize;
+            retainedCount -= promotedCount;
+            return;
+        }
+    }
+
+    /**
+     * Зливає кожне друге значення відсортованого рівня (починаючи з offset) з відсортованим
+     * вмістом вищого рівня. Злиття йде з кінця, тож додатковий буфер не потрібен.
+     */
+    private static void mergePromoted(int[] keys, int offset, int promotedCount, int[] target, int targetSize) {
+        int source = offset + 2 * (promotedCount - 1);
+        int existing = targetSize - 1;
+        for (int write = targetSize + promotedCount - 1; source >= offset; write--) {
+            if (existing >= 0 && target[existing] > keys[source]) {
+                target[write] = target[existing--];
+            } else {
+                target[write] = keys[source];
+                source -= 2;
+            }
+        }
+    }
+
+    private static void sortPrefix(int[] keys, int length) {
+        if (length > INSERTION_SORT_THRESHOLD) {
+            Arrays.sort(keys, 0, length);
+            return;
+        }
+        // нижні рівні короткі, і виклик загального сортування для них дорожчий за саму роботу
+        for (int i = 1; i < length; i++) {
+            int key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            keys[j + 1] = key;
+        }
+    }
+
+    private void addLevel() {
+        levels = Arrays.copyOf(levels, levelCount + 1);
+        levelSizes = Arrays.copyOf(levelSizes, levelCount + 1);
+        levelCount++;
+        updateCapacities();
+        levels[levelCount - 1] = new int[levelCapacities[levelCount - 1]];
+    }
+
+    /**
+     * Перераховує місткості рівнів: верхній рівень має місткість k, кожен нижчий - у 2/3 рази меншу.
+     */
+    private void updateCapacities() {
+        levelCapacities = new int[levelCount];
+        maxRetainedCount = 0;
+        for (int level = 0; level < levelCount; level++) {
+            int depth = levelCount - level - 1;
+            levelCapacities[level] = Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)));
+            maxRetainedCount += levelCapacities[level];
+        }
+    }
+
+    private int nextRandomBit() {
+        // xorshift64: достатньо для вибору зсуву, без спільного стану між потоками
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int) (randomState >>> 63);
+    }
+}
@@ -0,0 +1,237 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас FloatMinMaxHeap - двостороння купа примітивних float з доступом до обох кінців.
+ *
+ * <p>Рівні купи чергуються: на парних рівнях (починаючи з кореня) кожен вузол не більший за
+ * всіх своїх нащадків, на непарних - не менший. Найменше значення лежить у корені, найбільше -
+ * в одному з двох його дітей, тож обидва кінці доступні за O(1), а вилучення з будь-якого
+ * кінця і додавання виконуються за O(log n). Побудова з масиву виконується за O(n).</p>
+ *
+ * <p>Значення зберігаються як ключі {@link FloatSortedIndex#sortableBits(float)}, тож порядок
+ * збігається з {@link Float#compare(float, float)}, а порівняння є цілочисельними.</p>
+ */
+class FloatMinMaxHeap {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private int size;
+
+    /**
+     * @param initialCapacity Початкова місткість
+     */
+    FloatMinMaxHeap(int initialCapacity) {
+        this.keys = new int[Math.max(initialCapacity, MIN_CAPACITY)];
+    }
+
+    /**
+     * Будує купу з усіх значень масиву за O(n). Масив не змінюється.
+     *
+     * @param values Значення
+     * @return Купа
+     */
+    static FloatMinMaxHeap heapify(float[] values) {
+        FloatMinMaxHeap heap = new FloatMinMaxHeap(values.length);
+        for (int i = 0; i < values.length; i++) {
+            heap.keys[i] = FloatSortedIndex.sortableBits(values[i]);
+        }
+        heap.size = values.length;
+        for (int i = (heap.size >>> 1) - 1; i >= 0; i--) {
+            heap.trickleDown(i);
+        }
+        return heap;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Додає значення за O(log n).
+     */
+    void add(float value) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size + (size >> 1));
+        }
+        keys[size] = FloatSortedIndex.sortableBits(value);
+        bubbleUp(size++);
+    }
+
+    /**
+     * @return Найменше значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    float peekMin() {
+        requireNotEmpty();
+        return FloatMinMaxKernel.fromSortableBits(keys[0]);
+    }
+
+    /**
+     * @return Найбільше значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    float peekMax() {
+        requireNotEmpty();
+        return FloatMinMaxKernel.fromSortableBits(keys[maxIndex()]);
+    }
+
+    /**
+     * Вилучає найменше значення за O(log n).
+     *
+     * @return Вилучене значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    float pollMin() {
+        requireNotEmpty();
+        return removeAt(0);
+    }
+
+    /**
+     * Вилучає найбільше значення за O(log n).
+     *
+     * @return Вилучене значення
+     * @throws NoSuchElementException Якщо купа порожня
+     */
+    float pollMax() {
+        requireNotEmpty();
+        return removeAt(maxIndex());
+    }
+
+    /**
+     * Перевіряє наявність значення переглядом усіх ключів без упакування.
+     */
+    boolean contains(float value) {
+        int key = FloatSortedIndex.sortableBits(value);
+        for (int i = 0; i < size; i++) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Передає всі значення приймачу у порядку зберігання.
+     */
+    void forEach(FloatTextParser.FloatSink sink) {
+        for (int i = 0; i < size; i++) {
+            sink.accept(FloatMinMaxKernel.fromSortableBits(keys[i]));
+        }
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Купа порожня");
+        }
+    }
+
+    private int maxIndex() {
+        if (size == 1) {
+            return 0;
+        }
+        return size == 2 || keys[1] >= keys[2] ? 1 : 2;
+    }
+
+    private float removeAt(int index) {
+        int removed = keys[index];
+        int last = keys[--size];
+        if (index < size) {
+            keys[index] = last;
+            trickleDown(index);
+        }
+        return FloatMinMaxKernel.fromSortableBits(removed);
+    }
+
+    private static boolean isMinLevel(int index) {
+        // рівень вузла - номер старшого біта (index + 1)
+        return ((31 - Integer.numberOfLeadingZeros(index + 1)) & 1) == 0;
+    }
+
+    private void bubbleUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = (index - 1) >>> 1;
+        if (isMinLevel(index)) {
+            if (keys[index] > keys[parent]) {
+                swap(index, parent);
+                bubbleUpAlongLevels(parent, false);
+            } else {
+                bubbleUpAlongLevels(index, true);
+            }
+        } else {
+            if (keys[index] < keys[parent]) {
+                swap(index, parent);
+                bubbleUpAlongLevels(parent, true);
+            } else {
+                bubbleUpAlongLevels(index, false);
+            }
+        }
+    }
+
+    private void bubbleUpAlongLevels(int index, boolean minLevel) {
+        // вузол порівнюється з дідом - найближчим предком на рівні того самого типу
+        while (index > 2) {
+            int grandparent = (index - 3) >>> 2;
+            if (minLevel ? keys[index] < keys[grandparent] : keys[index] > keys[grandparent]) {
+                swap(index, grandparent);
+                index = grandparent;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void trickleDown(int index) {
+        boolean minLevel = isMinLevel(index);
+        while (true) {
+            int firstChild = 2 * index + 1;
+            if (firstChild >= size) {
+                return;
+            }
+
+            // найменший (чи найбільший) серед дітей та онуків
+            int extreme = firstChild;
+            int firstGrandchild = 2 * firstChild + 1;
+            int candidateEnd = Math.min(firstGrandchild + 4, size);
+            if (firstChild + 1 < size && better(firstChild + 1, extreme, minLevel)) {
+                extreme = firstChild + 1;
+            }
+            for (int candidate = firstGrandchild; candidate < candidateEnd; candidate++) {
+                if (better(candidate, extreme, minLevel)) {
+                    extreme = candidate;
+                }
+            }
+
+            if (!better(extreme, index, minLevel)) {
+                return;
+            }
+            swap(extreme, index);
+            if (extreme < firstGrandchild) {
+                // дитина лежить на рівні протилежного типу, далі порушення неможливе
+                return;
+            }
+
+            int parent = (extreme - 1) >>> 1;
+            if (better(parent, extreme, minLevel)) {
+                swap(parent, extreme);
+            }
+            index = extreme;
+        }
+    }
+
+    private boolean better(int candidate, int current, boolean minLevel) {
+        return minLevel ? keys[candidate] < keys[current] : keys[candidate] > keys[current];
+    }
+
+    private void swap(int first, int second) {
+        int key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+    }
+}
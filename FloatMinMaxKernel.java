@@ -0,0 +1,119 @@
+import java.util.NoSuchElementException;
+
+/**
+ * Клас FloatMinMaxKernel знаходить найменше і найбільше значення за один прохід.
+ *
+ * <p>Кожне значення перетворюється на {@code int}, порядок якого збігається з
+ * {@link Float#compare(float, float)}, тож NaN вважається найбільшим, а {@code -0.0}
+ * меншим за {@code 0.0}, як і в решті проєкту. Після перетворення порівняння стають
+ * цілочисельними {@link Math#min(int, int)}/{@link Math#max(int, int)} без розгалужень,
+ * і JIT-компілятор векторизує цикл.</p>
+ *
+ * <p>Основний прохід бере сирі біти без зведення NaN до канонічного вигляду, що вдвічі
+ * швидше. NaN завжди потрапляє на край результату, тож лише тоді масив переглядається
+ * повторно з канонічними бітами.</p>
+ */
+class FloatMinMaxKernel {
+    /**
+     * Найменше і найбільше значення.
+     */
+    record MinMax(float min, float max) {}
+
+    /**
+     * @param values Непорожній масив
+     * @return Найменше і найбільше значення
+     * @throws NoSuchElementException Якщо масив порожній
+     */
+    static MinMax of(float[] values) {
+        return of(values, 0, values.length);
+    }
+
+    /**
+     * @param values Масив
+     * @param from Початок діапазону включно
+     * @param to Кінець діапазону виключно
+     * @return Найменше і найбільше значення діапазону
+     * @throws NoSuchElementException Якщо діапазон порожній
+     */
+    static MinMax of(float[] values, int from, int to) {
+        if (from >= to) {
+            throw new NoSuchElementException("Порожній діапазон");
+        }
+
+        // швидкий прохід на сирих бітах; будь-який NaN опиняється на краю результату
+        long extremes = scan(values, from, to, false);
+        MinMax result = decode(extremes);
+        if (Float.isNaN(result.min()) || Float.isNaN(result.max())) {
+            // NaN з довільним навантаженням чи знаком зводиться до канонічного, як у Float.compare
+            result = decode(scan(values, from, to, true));
+        }
+        return result;
+    }
+
+    private static long scan(float[] values, int from, int to, boolean canonicalNaN) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        if (canonicalNaN) {
+            for (int i = from; i < to; i++) {
+                int key = FloatSortedIndex.sortableBits(values[i]);
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+        } else {
+            // простий цикл редукції JIT-компілятор векторизує сам; ручне розгортання йому заважає
+            for (int i = from; i < to; i++) {
+                int key = rawSortableBits(values[i]);
+                min = Math.min(min, key);
+                max = Math.max(max, key);
+            }
+        }
+        return pack(min, max);
+    }
+
+    private static int rawSortableBits(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    private static long pack(int min, int max) {
+        return ((long) min << 32) | (max & 0xffffffffL);
+    }
+
+    private static MinMax decode(long extremes) {
+        return new MinMax(fromSortableBits((int) (extremes >>> 32)), fromSortableBits((int) extremes));
+    }
+
+    /**
+     * Накопичувач для значень, що надходять по одному.
+     */
+    static class Accumulator implements FloatTextParser.FloatSink {
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+        private long count;
+
+        @Override
+        public void accept(float value) {
+            int key = FloatSortedIndex.sortableBits(value);
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+            count++;
+        }
+
+        /**
+         * @throws NoSuchElementException Якщо значень не було
+         */
+        MinMax result() {
+            if (count == 0) {
+                throw new NoSuchElementException("Немає значень");
+            }
+            return new MinMax(fromSortableBits(min), fromSortableBits(max));
+        }
+    }
+
+    /**
+     * Обернене до {@link FloatSortedIndex#sortableBits(float)} перетворення.
+     */
+    static float fromSortableBits(int key) {
+        return Float.intBitsToFloat(key ^ ((key >> 31) & 0x7fffffff));
+    }
+}
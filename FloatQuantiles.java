@@ -0,0 +1,133 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Клас FloatQuantiles обчислює точні квантилі масиву float без повного сортування.
+ *
+ * <p>Значення копіюються у масив ключів {@link FloatSortedIndex#sortableBits(float)}, тож порядок
+ * збігається з {@link Float#compare(float, float)}, а вихідний масив не змінюється. Кожен квантиль
+ * знаходиться вибором (introselect): швидкий вибір з медіаною трьох і трьохстороннім розбиттям,
+ * що не деградує на повторах, а після 2·log2(n) невдалих кроків діапазон досортовується,
+ * тож найгірший випадок - O(n log n). Кілька квантилів обчислюються у зростаючому порядку рангів,
+ * і кожен наступний вибір обмежується правою частиною після попереднього.</p>
+ *
+ * <p>Квантиль q визначається за найближчим рангом: найменше значення, не менше за яке є
+ * щонайменше частка q елементів, як у {@link LatencyHistogram#valueAtPercentile(double)}.</p>
+ */
+class FloatQuantiles {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    /**
+     * @param values Непорожній масив
+     * @param quantile Квантиль від 0 до 1
+     * @return Значення квантиля
+     */
+    static float exact(float[] values, double quantile) {
+        return exact(values, new double[] {quantile})[0];
+    }
+
+    /**
+     * Обчислює кілька квантилів з однією копією масиву.
+     *
+     * @param values Непорожній масив; не змінюється
+     * @param quantiles Квантилі від 0 до 1 у довільному порядку
+     * @return Значення квантилів у порядку аргументів
+     * @throws NoSuchElementException Якщо масив порожній
+     * @throws IllegalArgumentException Якщо квантиль поза межами [0, 1]
+     */
+    static float[] exact(float[] values, double[] quantiles) {
+        if (values.length == 0) {
+            throw new NoSuchElementException("Порожній масив");
+        }
+
+        int[] keys = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = FloatSortedIndex.sortableBits(values[i]);
+        }
+
+        // ранги у зростаючому порядку разом з номером аргументу
+        long[] ranks = new long[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            ranks[i] = (rankIndex(quantiles[i], values.length) << 32) | i;
+        }
+        Arrays.sort(ranks);
+
+        float[] results = new float[quantiles.length];
+        int from = 0;
+        for (long rank : ranks) {
+            int target = (int) (rank >>> 32);
+            select(keys, from, values.length, target);
+            results[(int) rank] = FloatMinMaxKernel.fromSortableBits(keys[target]);
+            from = target;
+        }
+        return results;
+    }
+
+    /**
+     * @param quantile Квантиль від 0 до 1
+     * @param count Кількість елементів
+     * @return Індекс елемента квантиля у відсортованому порядку (від 0 до count - 1)
+     * @throws IllegalArgumentException Якщо квантиль поза межами [0, 1]
+     */
+    static long rankIndex(double quantile, long count) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Квантиль має бути в межах [0, 1]: " + quantile);
+        }
+        return Math.max(0, (long) Math.ceil(quantile * count) - 1);
+    }
+
+    /**
+     * Переставляє ключі діапазону так, що на позиції target стоїть той самий ключ,
+     * що й після сортування, ліворуч - не більші, праворуч - не менші.
+     */
+    private static void select(int[] keys, int from, int to, int target) {
+        int depthLimit = 2 * (Integer.SIZE - Integer.numberOfLeadingZeros(to - from));
+        while (to - from > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                Arrays.sort(keys, from, to);
+                return;
+            }
+
+            int pivot = medianOfThree(keys[from], keys[(from + to) >>> 1], keys[to - 1]);
+
+            // [from, less) < pivot, [less, greater] == pivot, (greater, to) > pivot
+            int less = from;
+            int greater = to - 1;
+            int i = from;
+            while (i <= greater) {
+                int key = keys[i];
+                if (key < pivot) {
+                    keys[i++] = keys[less];
+                    keys[less++] = key;
+                } else if (key > pivot) {
+                    keys[i] = keys[greater];
+                    keys[greater--] = key;
+                } else {
+                    i++;
+                }
+            }
+
+            if (target < less) {
+                to = less;
+            } else if (target > greater) {
+                from = greater + 1;
+            } else {
+                return;
+            }
+        }
+
+        for (int i = from + 1; i < to; i++) {
+            int key = keys[i];
+            int j = i - 1;
+            while (j >= from && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            keys[j + 1] = key;
+        }
+    }
+
+    private static int medianOfThree(int first, int second, int third) {
+        return Math.max(Math.min(first, second), Math.min(Math.max(first, second), third));
+    }
+}
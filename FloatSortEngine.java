@@ -0,0 +1,190 @@
+import java.util.Arrays;
+
+/**
+ * Клас FloatSortEngine сортує примітивні масиви float у порядку {@link Float#compare(float, float)}.
+ *
+ * <p>Стратегія обирається за розміром масиву та кількістю ядер:</p>
+ * <ul>
+ *   <li>короткі масиви - порівняльне сортування {@link Arrays#sort(float[])};</li>
+ *   <li>середні та великі на одному ядрі - порозрядне LSD-сортування ключів
+ *       {@link FloatSortedIndex#sortableBits(float)} по 8 біт за прохід; прохід пропускається,
+ *       якщо всі ключі мають однаковий розряд;</li>
+ *   <li>дуже великі за наявності кількох ядер - {@link Arrays#parallelSort(float[])}.</li>
+ * </ul>
+ *
+ * <p>Порозрядне сортування стабільне, тож {@link #sortedPositions(float[])} повертає однакові
+ * значення у порядку їхніх позицій без окремого порівняння позицій. NaN зводяться до
+ * канонічного вигляду, як у {@link Float#floatToIntBits(float)}.</p>
+ */
+class FloatSortEngine {
+    // нижче цього розміру підготовка гістограм дорожча за порівняльне сортування
+    static final int RADIX_THRESHOLD = 1 << 8;
+    // вище цього розміру поділ роботи між ядрами окуповує злиття частин
+    static final int PARALLEL_THRESHOLD = 1 << 22;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int PASSES = Integer.SIZE / DIGIT_BITS;
+
+    /**
+     * Спосіб сортування.
+     */
+    enum Strategy {
+        COMPARISON,
+        RADIX,
+        PARALLEL
+    }
+
+    /**
+     * @param length Розмір масиву
+     * @return Стратегія для поточної кількості ядер
+     */
+    static Strategy strategyFor(int length) {
+        return strategyFor(length, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param length Розмір масиву
+     * @param cores Кількість доступних ядер
+     * @return Стратегія сортування
+     */
+    static Strategy strategyFor(int length, int cores) {
+        if (length < RADIX_THRESHOLD) {
+            return Strategy.COMPARISON;
+        }
+        if (length >= PARALLEL_THRESHOLD && cores > 1) {
+            return Strategy.PARALLEL;
+        }
+        return Strategy.RADIX;
+    }
+
+    /**
+     * Сортує масив на місці.
+     *
+     * @param values Масив значень
+     */
+    static void sort(float[] values) {
+        switch (strategyFor(values.length)) {
+            case COMPARISON -> Arrays.sort(values);
+            case PARALLEL -> Arrays.parallelSort(values);
+            case RADIX -> {
+                int[] keys = new int[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    keys[i] = FloatSortedIndex.sortableBits(values[i]);
+                }
+                radixSort(keys, null);
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = FloatMinMaxKernel.fromSortableBits(keys[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Повертає позиції значень у відсортованому порядку. Однакові значення
+     * впорядковані за позицією. Масив не змінюється.
+     *
+     * @param values Масив значень
+     * @return Перестановка позицій від найменшого значення до найбільшого
+     */
+    static int[] sortedPositions(float[] values) {
+        int[] positions = new int[values.length];
+        Strategy strategy = strategyFor(values.length);
+        if (strategy == Strategy.RADIX) {
+            int[] keys = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                keys[i] = FloatSortedIndex.sortableBits(values[i]);
+                positions[i] = i;
+            }
+            radixSort(keys, positions);
+            return positions;
+        }
+
+        // пари (значення, позиція) в одному long, щоб порівняння враховувало позицію
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            keys[i] = ((long) FloatSortedIndex.sortableBits(values[i]) << 32) | i;
+        }
+        if (strategy == Strategy.PARALLEL) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            positions[i] = (int) keys[i];
+        }
+        return positions;
+    }
+
+    /**
+     * Стабільне LSD-сортування ключів зі знаком разом із супровідними даними.
+     *
+     * @param keys Ключі
+     * @param payload Супровідні дані тієї ж довжини або null
+     */
+    private static void radixSort(int[] keys, int[] payload) {
+        int length = keys.length;
+        if (length < 2) {
+            return;
+        }
+
+        // гістограми всіх розрядів за один прохід
+        int[][] counts = new int[PASSES][RADIX];
+        for (int key : keys) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][digit(key, pass)]++;
+            }
+        }
+
+        int[] sourceKeys = keys;
+        int[] targetKeys = new int[length];
+        int[] sourcePayload = payload;
+        int[] targetPayload = payload != null ? new int[length] : null;
+        int[] offsets = new int[RADIX];
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            if (count[digit(sourceKeys[0], pass)] == length) {
+                continue;
+            }
+
+            int offset = 0;
+            for (int d = 0; d < RADIX; d++) {
+                offsets[d] = offset;
+                offset += count[d];
+            }
+
+            if (sourcePayload != null) {
+                for (int i = 0; i < length; i++) {
+                    int target = offsets[digit(sourceKeys[i], pass)]++;
+                    targetKeys[target] = sourceKeys[i];
+                    targetPayload[target] = sourcePayload[i];
+                }
+                int[] swapPayload = sourcePayload;
+                sourcePayload = targetPayload;
+                targetPayload = swapPayload;
+            } else {
+                for (int i = 0; i < length; i++) {
+                    targetKeys[offsets[digit(sourceKeys[i], pass)]++] = sourceKeys[i];
+                }
+            }
+            int[] swapKeys = sourceKeys;
+            sourceKeys = targetKeys;
+            targetKeys = swapKeys;
+        }
+
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, length);
+            if (payload != null) {
+                System.arraycopy(sourcePayload, 0, payload, 0, length);
+            }
+        }
+    }
+
+    private static int digit(int key, int pass) {
+        int digit = (key >>> (pass * DIGIT_BITS)) & DIGIT_MASK;
+        // старший розряд містить знак: від'ємні ключі мають іти першими
+        return pass == PASSES - 1 ? digit ^ (RADIX >>> 1) : digit;
+    }
+}
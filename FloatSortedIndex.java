@@ -0,0 +1,239 @@
+/**
+ * Клас FloatSortedIndex - незмінний відсортований індекс над масивом float.
+ *
+ * <p>Індекс зберігає відсортовані значення та позицію кожного з них у вихідному масиві.
+ * Однакові значення впорядковані за позицією, тож перше і останнє входження значення
+ * у вихідному масиві знаходяться на краях відповідного діапазону. Усі запити виконуються
+ * двійковим пошуком за O(log n) з порядком {@link Float#compare(float, float)}.</p>
+ *
+ * <p>Індекс будується один раз на набір даних стабільним сортуванням позицій
+ * {@link FloatSortEngine#sortedPositions(float[])} або відновлюється без сортування зі
+ * збережених відсортованих значень і позицій ({@link #restore(float[], float[], int[])}).</p>
+ */
+class FloatSortedIndex {
+    private final float[] sortedValues;
+    private final int[] positions;
+
+    private FloatSortedIndex(float[] sortedValues, int[] positions) {
+        this.sortedValues = sortedValues;
+        this.positions = positions;
+    }
+
+    /**
+     * Будує індекс над значеннями. Масив не змінюється.
+     *
+     * @param values Значення у порядку файлу
+     * @return Індекс
+     */
+    static FloatSortedIndex build(float[] values) {
+        int[] positions = FloatSortEngine.sortedPositions(values);
+        float[] sortedValues = new float[values.length];
+        for (int i = 0; i < positions.length; i++) {
+            sortedValues[i] = values[positions[i]];
+        }
+        return new FloatSortedIndex(sortedValues, positions);
+    }
+
+    /**
+     * Відновлює індекс зі збережених масивів без сортування, перевіряючи їх за O(n):
+     * кожна пара (значення, позиція) має відповідати вихідному масиву, а пари мають строго
+     * зростати. Тоді позиції різні, тобто утворюють перестановку, і індекс збігається з тим,
+     * який побудував би {@link #build(float[])}.
+     *
+     * @param values Значення у порядку файлу
+     * @param sortedValues Збережені відсортовані значення
+     * @param positions Збережені позиції відсортованих значень у вихідному масиві
+     * @return Індекс над збереженими масивами
+     * @throws IllegalArgumentException Якщо масиви не відповідають вихідним значенням
+     */
+    static FloatSortedIndex restore(float[] values, float[] sortedValues, int[] positions) {
+        if (sortedValues.length != values.length || positions.length != values.length) {
+            throw new IllegalArgumentException("Розмір збереженого індексу не відповідає набору даних");
+        }
+        for (int i = 0; i < positions.length; i++) {
+            int position = positions[i];
+            if (position < 0 || position >= values.length || Float.compare(values[position], sortedValues[i]) != 0) {
+                throw new IllegalArgumentException("Збережений індекс не відповідає набору даних у позиції " + i);
+            }
+            if (i > 0) {
+                int order = Float.compare(sortedValues[i - 1], sortedValues[i]);
+                if (order > 0 || order == 0 && positions[i - 1] >= position) {
+                    throw new IllegalArgumentException("Збережений індекс не впорядкований у позиції " + i);
+                }
+            }
+        }
+        return new FloatSortedIndex(sortedValues, positions);
+    }
+
+    /**
+     * Перетворює float на int, порядок якого збігається з {@link Float#compare(float, float)}.
+     */
+    static int sortableBits(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+
+    int size() {
+        return sortedValues.length;
+    }
+
+    /**
+     * @return Відсортовані значення; масив не можна змінювати
+     */
+    float[] sortedValues() {
+        return sortedValues;
+    }
+
+    /**
+     * @return Позиції відсортованих значень у вихідному масиві; масив не можна змінювати
+     */
+    int[] positions() {
+        return positions;
+    }
+
+    /**
+     * @param sortedIndex Індекс у відсортованому порядку
+     * @return Значення
+     */
+    float valueAt(int sortedIndex) {
+        return sortedValues[sortedIndex];
+    }
+
+    /**
+     * @param sortedIndex Індекс у відсортованому порядку
+     * @return Позиція значення у вихідному масиві
+     */
+    int positionAt(int sortedIndex) {
+        return positions[sortedIndex];
+    }
+
+    /**
+     * @return Індекс першого елемента, не меншого за значення (від 0 до size)
+     */
+    int lowerBound(float value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Float.compare(sortedValues[middle], value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Нижня межа для зростаючої послідовності запитів: пошук починається з попереднього
+     * результату і розширює крок удвічі, доки не перескочить значення, тож серія з m
+     * відсортованих запитів коштує O(m log(n/m)) замість O(m log n).
+     *
+     * @param value Значення
+     * @param from Індекс, з якого починається пошук; усі елементи до нього менші за значення
+     * @return Індекс першого елемента, не меншого за значення (від from до size)
+     */
+    int lowerBound(float value, int from) {
+        int low = from;
+        int step = 1;
+        while (low + step <= sortedValues.length && Float.compare(sortedValues[low + step - 1], value) < 0) {
+            low += step;
+            step <<= 1;
+        }
+
+        int high = Math.min(low + step - 1, sortedValues.length);
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Float.compare(sortedValues[middle], value) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return Індекс першого елемента, більшого за значення (від 0 до size)
+     */
+    int upperBound(float value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Float.compare(sortedValues[middle], value) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    boolean contains(float value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * @return Індекс першого входження у відсортованому порядку або -1
+     */
+    int indexOf(float value) {
+        int index = lowerBound(value);
+        return index < sortedValues.length && Float.compare(sortedValues[index], value) == 0 ? index : -1;
+    }
+
+    /**
+     * @return Позиція першого входження у вихідному масиві або -1
+     */
+    int firstPosition(float value) {
+        int index = indexOf(value);
+        return index >= 0 ? positions[index] : -1;
+    }
+
+    /**
+     * @return Позиція останнього входження у вихідному масиві або -1
+     */
+    int lastPosition(float value) {
+        int index = upperBound(value) - 1;
+        return index >= 0 && Float.compare(sortedValues[index], value) == 0 ? positions[index] : -1;
+    }
+
+    /**
+     * @return Кількість входжень значення
+     */
+    int count(float value) {
+        return upperBound(value) - lowerBound(value);
+    }
+
+    /**
+     * @return Індекс найбільшого елемента, не більшого за значення, або -1
+     */
+    int floorIndex(float value) {
+        return upperBound(value) - 1;
+    }
+
+    /**
+     * @return Індекс найменшого елемента, не меншого за значення, або -1
+     */
+    int ceilingIndex(float value) {
+        int index = lowerBound(value);
+        return index < sortedValues.length ? index : -1;
+    }
+
+    /**
+     * @return Кількість елементів, менших за значення
+     */
+    int rank(float value) {
+        return lowerBound(value);
+    }
+
+    /**
+     * @return Кількість елементів у діапазоні [lower, upper] включно
+     */
+    int countInRange(float lower, float upper) {
+        if (Float.compare(lower, upper) > 0) {
+            return 0;
+        }
+        return upperBound(upper) - lowerBound(lower);
+    }
+}
@@ -0,0 +1,178 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Клас FloatTextParser розбирає текстові дані float безпосередньо з байтового буфера.
+ *
+ * <p>Кожен рядок містить одне значення. Типові значення (до 7 значущих цифр і не більше
+ * 10 знаків після крапки) обчислюються без створення рядків та об'єктів. Решта рядків
+ * передається до {@link Float#parseFloat(String)}, тому результат завжди збігається
+ * зі стандартним розбором.</p>
+ *
+ * <p>Екземпляр зберігає незавершений рядок між викликами {@link #feed(byte[], int, int, FloatSink)},
+ * тож файл можна подавати довільними блоками.</p>
+ */
+class FloatTextParser {
+    /**
+     * Приймач розібраних значень float.
+     */
+    @FunctionalInterface
+    interface FloatSink {
+        void accept(float value);
+    }
+
+    /**
+     * Накопичує розібрані значення у масиві float, що розширюється.
+     */
+    static class FloatArrayBuilder implements FloatSink {
+        private float[] values;
+        private int size;
+
+        FloatArrayBuilder(int initialCapacity) {
+            this.values = new float[Math.max(16, initialCapacity)];
+        }
+
+        @Override
+        public void accept(float value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, values.length + (values.length >> 1));
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        float[] toArray() {
+            return values.length == size ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    // 10^k точно представлені у float для k <= 10, тож ділення округлюється один раз
+    private static final float[] POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final long MAX_EXACT_MANTISSA = 1L << 24;
+
+    private byte[] pendingLine = new byte[64];
+    private int pendingLength;
+
+    /**
+     * Повертає довжину мітки порядку байтів UTF-8 (BOM) на початку буфера.
+     *
+     * @param buffer Буфер з початком файлу.
+     * @param from Позиція початку даних.
+     * @param to Позиція кінця даних (не включно).
+     * @return 3, якщо буфер починається з BOM, інакше 0.
+     */
+    static int byteOrderMarkLength(byte[] buffer, int from, int to) {
+        if (to - from >= 3
+                && buffer[from] == (byte) 0xEF
+                && buffer[from + 1] == (byte) 0xBB
+                && buffer[from + 2] == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Розбирає черговий блок байтів і передає кожне повне значення до приймача.
+     *
+     * @param buffer Буфер з даними.
+     * @param from Позиція початку блоку.
+     * @param to Позиція кінця блоку (не включно).
+     * @param sink Приймач значень.
+     */
+    void feed(byte[] buffer, int from, int to, FloatSink sink) {
+        int lineStart = from;
+        for (int i = from; i < to; i++) {
+            if (buffer[i] != '\n') {
+                continue;
+            }
+            if (pendingLength > 0) {
+                appendPending(buffer, lineStart, i);
+                parseLine(pendingLine, 0, pendingLength, sink);
+                pendingLength = 0;
+            } else {
+                parseLine(buffer, lineStart, i, sink);
+            }
+            lineStart = i + 1;
+        }
+        appendPending(buffer, lineStart, to);
+    }
+
+    /**
+     * Завершує розбір, обробляючи останній рядок без символу нового рядка.
+     *
+     * @param sink Приймач значень.
+     */
+    void finish(FloatSink sink) {
+        if (pendingLength > 0) {
+            parseLine(pendingLine, 0, pendingLength, sink);
+            pendingLength = 0;
+        }
+    }
+
+    private void appendPending(byte[] buffer, int from, int to) {
+        int length = to - from;
+        if (length <= 0) {
+            return;
+        }
+        if (pendingLength + length > pendingLine.length) {
+            pendingLine = Arrays.copyOf(pendingLine, Math.max(pendingLine.length * 2, pendingLength + length));
+        }
+        System.arraycopy(buffer, from, pendingLine, pendingLength, length);
+        pendingLength += length;
+    }
+
+    /**
+     * Розбирає один рядок. Порожні рядки пропускаються.
+     */
+    static void parseLine(byte[] buffer, int start, int end, FloatSink sink) {
+        while (start < end && buffer[start] <= ' ') {
+            start++;
+        }
+        while (end > start && buffer[end - 1] <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        int position = start;
+        boolean negative = buffer[position] == '-';
+        if (negative || buffer[position] == '+') {
+            position++;
+        }
+
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigits = 0;
+        boolean seenDot = false;
+        boolean exact = position < end;
+
+        for (; position < end && exact; position++) {
+            int symbol = buffer[position];
+            if (symbol >= '0' && symbol <= '9') {
+                mantissa = mantissa * 10 + (symbol - '0');
+                digitCount++;
+                if (seenDot) {
+                    fractionDigits++;
+                }
+                exact = mantissa < MAX_EXACT_MANTISSA && fractionDigits < POWERS_OF_TEN.length;
+            } else if (symbol == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                exact = false;
+            }
+        }
+
+        if (exact && digitCount > 0) {
+            float value = (float) mantissa / POWERS_OF_TEN[fractionDigits];
+            sink.accept(negative ? -value : value);
+        } else {
+            sink.accept(Float.parseFloat(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1)));
+        }
+    }
+}
@@ -0,0 +1,126 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Клас FloatTextWriter записує масив float у текстовий файл потоково.
+ *
+ * <p>Значення форматуються безпосередньо у байтовий буфер, що повторно використовується,
+ * і скидаються на диск великими блоками. Рядок з усім вмістом файлу не створюється.
+ * Типові значення (від 1e-3 до 1e7 і до 7 значущих цифр) форматуються без виділення
+ * пам'яті найкоротшим десятковим записом, який читається назад у те саме значення float;
+ * решта значень використовує {@link Float#toString(float)}.</p>
+ *
+ * <p>Екземпляр не є потокобезпечним.</p>
+ */
+class FloatTextWriter {
+    private static final int BLOCK_SIZE = 1 << 18;
+    // найдовший запис Float.toString, наприклад "-1.17549435E-38", з запасом
+    private static final int MAX_VALUE_LENGTH = 32;
+    private static final int MAX_DECIMALS = 10;
+    private static final long MAX_EXACT_MANTISSA = 1L << 24;
+
+    private static final float[] POWERS_OF_TEN_FLOAT = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+    private static final long[] POWERS_OF_TEN_LONG = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+        100_000_000L, 1_000_000_000L, 10_000_000_000L
+    };
+
+    private final byte[] buffer = new byte[BLOCK_SIZE];
+    private final byte[] separator = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Записує значення у файл, по одному в рядку, без символу нового рядка в кінці.
+     *
+     * @param values Масив значень.
+     * @param path Шлях до файлу.
+     * @throws IOException Якщо запис не вдався.
+     */
+    void write(float[] values, Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path)) {
+            int position = 0;
+            for (int i = 0; i < values.length; i++) {
+                if (position > buffer.length - MAX_VALUE_LENGTH - separator.length) {
+                    outputStream.write(buffer, 0, position);
+                    position = 0;
+                }
+                if (i > 0) {
+                    System.arraycopy(separator, 0, buffer, position, separator.length);
+                    position += separator.length;
+                }
+                position = formatFloat(values[i], buffer, position);
+            }
+            outputStream.write(buffer, 0, position);
+        }
+    }
+
+    /**
+     * Форматує значення float у буфер.
+     *
+     * @param value Значення.
+     * @param target Буфер призначення.
+     * @param position Позиція запису.
+     * @return Позиція після записаного значення.
+     */
+    static int formatFloat(float value, byte[] target, int position) {
+        float magnitude = Math.abs(value);
+        if (magnitude == 0.0f || (magnitude >= 1e-3f && magnitude < 1e7f)) {
+            for (int decimals = 0; decimals <= MAX_DECIMALS; decimals++) {
+                long mantissa = (long) Math.rint((double) magnitude * POWERS_OF_TEN_LONG[decimals]);
+                if (mantissa >= MAX_EXACT_MANTISSA) {
+                    break;
+                }
+                // та сама арифметика, що й у FloatTextParser, тож значення гарантовано читається назад
+                if ((float) mantissa / POWERS_OF_TEN_FLOAT[decimals] == magnitude) {
+                    if (Float.floatToRawIntBits(value) < 0) {
+                        target[position++] = '-';
+                    }
+                    return writeDecimal(mantissa, decimals, target, position);
+                }
+            }
+        }
+
+        String text = Float.toString(value);
+        for (int i = 0; i < text.length(); i++) {
+            target[position++] = (byte) text.charAt(i);
+        }
+        return position;
+    }
+
+    private static int writeDecimal(long mantissa, int decimals, byte[] target, int position) {
+        long integerPart = mantissa / POWERS_OF_TEN_LONG[decimals];
+        long fractionPart = mantissa % POWERS_OF_TEN_LONG[decimals];
+
+        position = writeDigits(integerPart, 1, target, position);
+        target[position++] = '.';
+        if (decimals == 0) {
+            target[position++] = '0';
+            return position;
+        }
+        return writeDigits(fractionPart, decimals, target, position);
+    }
+
+    /**
+     * Записує невід'ємне ціле число щонайменше з minDigits цифр, доповнюючи нулями зліва.
+     *
+     * @return Позиція після записаного числа.
+     */
+    static int writeDigits(long number, int minDigits, byte[] target, int position) {
+        int digitCount = 1;
+        for (long rest = number / 10; rest > 0; rest /= 10) {
+            digitCount++;
+        }
+        digitCount = Math.max(digitCount, minDigits);
+
+        int end = position + digitCount;
+        for (int i = end - 1; i >= position; i--) {
+            target[i] = (byte) ('0' + number % 10);
+            number /= 10;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,186 @@
+import java.util.Arrays;
+
+/**
+ * Клас FloatZoneMap - карта зон для пошуку в масиві float у вихідному порядку без сортування.
+ *
+ * <p>Масив ділиться на блоки по {@value #BLOCK_SIZE} значень, і для кожного блоку зберігаються
+ * найменше і найбільше значення як ключі {@link FloatSortedIndex#sortableBits(float)}. Пошук
+ * переглядає лише блоки, діапазон яких може містити шукане значення, а решту пропускає за
+ * двома порівняннями. На впорядкованих у часі або кластеризованих даних діапазони блоків
+ * майже не перетинаються, і переглядається лише кілька блоків.</p>
+ *
+ * <p>Карта будується під час завантаження: {@link Builder} приймає значення у порядку файлу
+ * як {@link FloatTextParser.FloatSink}. Порядок і рівність - {@link Float#compare(float, float)}.</p>
+ */
+class FloatZoneMap {
+    static final int BLOCK_SIZE = 1024;
+
+    private final float[] values;
+    private final int[] blockMinKeys;
+    private final int[] blockMaxKeys;
+
+    /**
+     * Результат пошуку значення.
+     *
+     * @param position Позиція першого входження у вихідному масиві або -1
+     * @param blocksScanned Кількість переглянутих блоків
+     * @param blocksSkipped Кількість блоків, пропущених за діапазоном
+     */
+    record SearchResult(int position, int blocksScanned, int blocksSkipped) {}
+
+    private FloatZoneMap(float[] values, int[] blockMinKeys, int[] blockMaxKeys) {
+        this.values = values;
+        this.blockMinKeys = blockMinKeys;
+        this.blockMaxKeys = blockMaxKeys;
+    }
+
+    /**
+     * Будує карту окремим проходом по масиву.
+     *
+     * @param values Значення у порядку файлу; масив не змінюється
+     * @return Карта зон
+     */
+    static FloatZoneMap of(float[] values) {
+        Builder builder = new Builder();
+        builder.acceptAll(values);
+        return builder.build(values);
+    }
+
+    int blockCount() {
+        return blockMinKeys.length;
+    }
+
+    /**
+     * Знаходить перше входження значення у вихідному порядку.
+     *
+     * @param value Шукане значення
+     * @return Позиція та кількість переглянутих і пропущених блоків
+     */
+    SearchResult firstPosition(float value) {
+        int key = FloatSortedIndex.sortableBits(value);
+        int blocksScanned = 0;
+        int blocksSkipped = 0;
+        for (int block = 0; block < blockMinKeys.length; block++) {
+            if (key < blockMinKeys[block] || key > blockMaxKeys[block]) {
+                blocksSkipped++;
+                continue;
+            }
+            blocksScanned++;
+            int end = Math.min((block + 1) * BLOCK_SIZE, values.length);
+            for (int i = block * BLOCK_SIZE; i < end; i++) {
+                if (FloatSortedIndex.sortableBits(values[i]) == key) {
+                    return new SearchResult(i, blocksScanned, blocksSkipped);
+                }
+            }
+        }
+        return new SearchResult(-1, blocksScanned, blocksSkipped);
+    }
+
+    /**
+     * Знаходить перше у вихідному порядку значення з діапазону [lower, upper]. Кількість значень
+     * у діапазоні від порядку не залежить і дає {@link FloatSortedIndex#countInRange(float, float)};
+     * карта зон потрібна там, де важлива позиція у файлі. Блоки поза діапазоном пропускаються,
+     * а в блоці, що повністю лежить у діапазоні, відповіддю є його перший елемент.
+     *
+     * @param lower Нижня межа включно
+     * @param upper Верхня межа включно
+     * @return Позиція та кількість переглянутих і пропущених блоків
+     */
+    SearchResult firstPositionInRange(float lower, float upper) {
+        int lowerKey = FloatSortedIndex.sortableBits(lower);
+        int upperKey = FloatSortedIndex.sortableBits(upper);
+        int blocksScanned = 0;
+        int blocksSkipped = 0;
+        for (int block = 0; block < blockMinKeys.length; block++) {
+            if (upperKey < blockMinKeys[block] || lowerKey > blockMaxKeys[block]) {
+                blocksSkipped++;
+                continue;
+            }
+            blocksScanned++;
+            int start = block * BLOCK_SIZE;
+            if (lowerKey <= blockMinKeys[block] && blockMaxKeys[block] <= upperKey) {
+                return new SearchResult(start, blocksScanned, blocksSkipped);
+            }
+            int end = Math.min(start + BLOCK_SIZE, values.length);
+            for (int i = start; i < end; i++) {
+                int key = FloatSortedIndex.sortableBits(values[i]);
+                if (key >= lowerKey && key <= upperKey) {
+                    return new SearchResult(i, blocksScanned, blocksSkipped);
+                }
+            }
+        }
+        return new SearchResult(-1, blocksScanned, blocksSkipped);
+    }
+
+    /**
+     * Записує кількість переглянутих і пропущених блоків до лічильників звіту {@link PerformanceTracker}.
+     */
+    static void recordBlocks(int blocksScanned, int blocksSkipped) {
+        PerformanceTracker.addToCounter("карта зон: переглянуто блоків", blocksScanned);
+        PerformanceTracker.addToCounter("карта зон: пропущено блоків", blocksSkipped);
+    }
+
+    /**
+     * Накопичує найменше і найбільше значення кожного блоку, поки значення надходять
+     * у порядку файлу.
+     */
+    static class Builder implements FloatTextParser.FloatSink {
+        private int[] blockMinKeys = new int[16];
+        private int[] blockMaxKeys = new int[16];
+        private int count;
+        private int currentMin;
+        private int currentMax;
+
+        @Override
+        public void accept(float value) {
+            int key = FloatSortedIndex.sortableBits(value);
+            if (count % BLOCK_SIZE == 0) {
+                closeBlock();
+                currentMin = key;
+                currentMax = key;
+            } else {
+                currentMin = Math.min(currentMin, key);
+                currentMax = Math.max(currentMax, key);
+            }
+            count++;
+        }
+
+        /**
+         * Додає всі значення масиву.
+         */
+        void acceptAll(float[] values) {
+            for (float value : values) {
+                accept(value);
+            }
+        }
+
+        /**
+         * Завершує карту над завантаженим масивом.
+         *
+         * @param values Масив тих самих значень у тому самому порядку
+         * @return Карта зон
+         * @throws IllegalArgumentException Якщо довжина масиву не збігається з кількістю прийнятих значень
+         */
+        FloatZoneMap build(float[] values) {
+            if (values.length != count) {
+                throw new IllegalArgumentException("Карта зон побудована для " + count + " значень, а масив містить " + values.length);
+            }
+            closeBlock();
+            int blockCount = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            return new FloatZoneMap(values, Arrays.copyOf(blockMinKeys, blockCount), Arrays.copyOf(blockMaxKeys, blockCount));
+        }
+
+        private void closeBlock() {
+            if (count == 0) {
+                return;
+            }
+            int block = (count - 1) / BLOCK_SIZE;
+            if (block == blockMinKeys.length) {
+                blockMinKeys = Arrays.copyOf(blockMinKeys, block * 2);
+                blockMaxKeys = Arrays.copyOf(blockMaxKeys, block * 2);
+            }
+            blockMinKeys[block] = currentMin;
+            blockMaxKeys[block] = currentMax;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/**
+ * Клас LatencyHistogram накопичує тривалості операцій у логарифмічно-лінійних кошиках.
+ *
+ * <p>Діапазон кожного степеня двійки поділено на {@value #SUB_BUCKET_COUNT} рівних кошиків,
+ * тож відносна похибка перцентилів не перевищує 1/{@value #SUB_BUCKET_COUNT} (менше 1%),
+ * а пам'ять не залежить від кількості вимірів. Мінімум і максимум зберігаються точно.</p>
+ *
+ * <p>Методи синхронізовані, тож гістограму можна заповнювати з кількох потоків.</p>
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // значення до 2^SUB_BUCKET_BITS зберігаються точно, далі - по SUB_BUCKET_COUNT кошиків на степінь двійки
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalSum;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue = Long.MIN_VALUE;
+
+    /**
+     * Додає значення до гістограми. Від'ємні значення вважаються нулем.
+     *
+     * @param value Тривалість у наносекундах
+     */
+    synchronized void recordValue(long value) {
+        long clamped = Math.max(0, value);
+        counts[bucketIndex(clamped)]++;
+        totalCount++;
+        totalSum += clamped;
+        minValue = Math.min(minValue, clamped);
+        maxValue = Math.max(maxValue, clamped);
+    }
+
+    /**
+     * Додає всі виміри іншої гістограми, наприклад при зведенні гістограм окремих потоків.
+     *
+     * @param other Гістограма, що не змінюється
+     */
+    void add(LatencyHistogram other) {
+        long[] otherCounts;
+        long otherCount;
+        long otherSum;
+        long otherMin;
+        long otherMax;
+        // копія під монітором іншої гістограми, щоб не тримати два монітори одночасно
+        synchronized (other) {
+            otherCounts = other.counts.clone();
+            otherCount = other.totalCount;
+            otherSum = other.totalSum;
+            otherMin = other.minValue;
+            otherMax = other.maxValue;
+        }
+        synchronized (this) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += otherCounts[i];
+            }
+            totalCount += otherCount;
+            totalSum += otherSum;
+            minValue = Math.min(minValue, otherMin);
+            maxValue = Math.max(maxValue, otherMax);
+        }
+    }
+
+    synchronized long count() {
+        return totalCount;
+    }
+
+    synchronized long min() {
+        return totalCount == 0 ? 0 : minValue;
+    }
+
+    synchronized long max() {
+        return totalCount == 0 ? 0 : maxValue;
+    }
+
+    synchronized double mean() {
+        return totalCount == 0 ? 0 : (double) totalSum / totalCount;
+    }
+
+    /**
+     * Повертає значення, не менше за яке є задана частка вимірів.
+     *
+     * @param percentile Перцентиль від 0 до 100
+     * @return Верхня межа кошика, що містить перцентиль, але не більше за максимум
+     */
+    synchronized long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(minValue, Math.min(maxValue, bucketUpperBound(i)));
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> exponent) - SUB_BUCKET_COUNT;
+        return (exponent + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << exponent) - 1;
+    }
+}
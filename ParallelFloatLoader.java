@@ -0,0 +1,206 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Клас ParallelFloatLoader завантажує великі файли даних float паралельно.
+ *
+ * <p>Файл відображається у пам'ять через {@link FileChannel#map}, ділиться на частини,
+ * межі яких вирівняні по символу нового рядка, і кожна частина розбирається окремим
+ * завданням у {@link ForkJoinPool}. Результати об'єднуються у порядку файлу.</p>
+ *
+ * <p>Під час розбору кожна частина також наповнює власний ескіз квантилів {@link FloatKllSketch},
+ * і ескізи частин об'єднуються, тож квантилі доступні одразу після завантаження.</p>
+ */
+public class ParallelFloatLoader {
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    // кожна частина відображається окремо, тож має бути меншою за межу MappedByteBuffer у 2 ГБ
+    private static final long MAX_CHUNK_SIZE = 1L << 28;
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Результат паралельного завантаження разом зі статистикою пропускної здатності.
+     *
+     * @param values Завантажені значення у порядку файлу.
+     * @param bytesRead Розмір файлу в байтах.
+     * @param elapsedNanos Тривалість завантаження в наносекундах.
+     * @param chunkCount Кількість частин, на які було поділено файл.
+     * @param parallelism Рівень паралелізму пулу.
+     * @param quantileSketch Ескіз квантилів усіх значень.
+     */
+    record LoadResult(float[] values, long bytesRead, long elapsedNanos, int chunkCount, int parallelism,
+            FloatKllSketch quantileSketch) {
+        /**
+         * Обчислює пропускну здатність завантаження.
+         *
+         * @return Пропускна здатність у МБ/с.
+         */
+        double throughputMegabytesPerSecond() {
+            double seconds = Math.max(elapsedNanos, 1) / 1e9;
+            return bytesRead / (1024.0 * 1024.0) / seconds;
+        }
+    }
+
+    /**
+     * Завантажує файл з використанням спільного пулу {@link ForkJoinPool#commonPool()}.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @return Результат завантаження.
+     */
+    public static LoadResult loadFloatsFromFile(String filePath) {
+        return loadFloatsFromFile(filePath, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Завантажує файл, розбираючи його частини паралельно у вказаному пулі.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @param pool Пул для розбору частин.
+     * @return Результат завантаження.
+     */
+    public static LoadResult loadFloatsFromFile(String filePath, ForkJoinPool pool) {
+        long timeStart = System.nanoTime();
+
+        try (FileChannel channel = FileChannel.open(Path.of(filePath), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long[] boundaries = splitIntoChunks(channel, skipByteOrderMark(channel), fileSize, pool.getParallelism());
+
+            List<Callable<ParsedChunk>> tasks = new ArrayList<>(boundaries.length - 1);
+            for (int i = 0; i + 1 < boundaries.length; i++) {
+                long chunkStart = boundaries[i];
+                long chunkEnd = boundaries[i + 1];
+                tasks.add(() -> parseChunk(channel, chunkStart, chunkEnd));
+            }
+
+            List<ParsedChunk> chunks = awaitInFileOrder(pool.invokeAll(tasks));
+            float[] values = joinInFileOrder(chunks);
+            FloatKllSketch quantileSketch = new FloatKllSketch();
+            for (ParsedChunk chunk : chunks) {
+                quantileSketch.merge(chunk.quantileSketch());
+            }
+
+            return new LoadResult(values, fileSize, System.nanoTime() - timeStart, tasks.size(), pool.getParallelism(),
+                    quantileSketch);
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+    }
+
+    private static long skipByteOrderMark(FileChannel channel) throws IOException {
+        ByteBuffer head = ByteBuffer.allocate(3);
+        while (head.hasRemaining() && channel.read(head, head.position()) > 0) {
+            // читаємо, доки не отримаємо три байти або не досягнемо кінця файлу
+        }
+        return FloatTextParser.byteOrderMarkLength(head.array(), 0, head.position());
+    }
+
+    /**
+     * Ділить діапазон файлу на частини, кожна з яких закінчується символом нового рядка.
+     */
+    private static long[] splitIntoChunks(FileChannel channel, long start, long end, int parallelism) throws IOException {
+        long length = end - start;
+        long chunkCount = Math.max(1, Math.min(length / MIN_CHUNK_SIZE, (long) parallelism * CHUNKS_PER_THREAD));
+        chunkCount = Math.max(chunkCount, (length + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE);
+        long chunkSize = Math.max(1, length / chunkCount);
+
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(start);
+        long previous = start;
+        for (int i = 1; i < chunkCount; i++) {
+            long boundary = nextLineStart(channel, Math.max(previous, start + i * chunkSize), end);
+            if (boundary > previous && boundary < end) {
+                boundaries.add(boundary);
+                previous = boundary;
+            }
+        }
+        boundaries.add(end);
+
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long end) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(4096);
+        while (position < end) {
+            window.clear();
+            int bytesRead = channel.read(window, position);
+            if (bytesRead <= 0) {
+                break;
+            }
+            for (int i = 0; i < bytesRead; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += bytesRead;
+        }
+        return end;
+    }
+
+    private record ParsedChunk(float[] values, FloatKllSketch quantileSketch) {}
+
+    private static ParsedChunk parseChunk(FileChannel channel, long chunkStart, long chunkEnd) throws IOException {
+        MappedByteBuffer mappedChunk = channel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkEnd - chunkStart);
+        FloatTextParser parser = new FloatTextParser();
+        FloatTextParser.FloatArrayBuilder builder =
+                new FloatTextParser.FloatArrayBuilder((int) ((chunkEnd - chunkStart) / 8));
+        FloatKllSketch quantileSketch = new FloatKllSketch();
+        FloatTextParser.FloatSink sink = value -> {
+            builder.accept(value);
+            quantileSketch.accept(value);
+        };
+        byte[] copyBuffer = new byte[COPY_BUFFER_SIZE];
+
+        while (mappedChunk.hasRemaining()) {
+            int blockLength = Math.min(copyBuffer.length, mappedChunk.remaining());
+            mappedChunk.get(copyBuffer, 0, blockLength);
+            parser.feed(copyBuffer, 0, blockLength, sink);
+        }
+        parser.finish(sink);
+
+        return new ParsedChunk(builder.toArray(), quantileSketch);
+    }
+
+    private static List<ParsedChunk> awaitInFileOrder(List<Future<ParsedChunk>> results) {
+        List<ParsedChunk> chunks = new ArrayList<>(results.size());
+        try {
+            for (Future<ParsedChunk> result : results) {
+                chunks.add(result.get());
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Завантаження даних перервано", interruptedException);
+        } catch (ExecutionException executionException) {
+            Throwable cause = executionException.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Помилка розбору частини файлу", cause);
+        }
+        return chunks;
+    }
+
+    private static float[] joinInFileOrder(List<ParsedChunk> chunks) {
+        long totalLength = 0;
+        for (ParsedChunk chunk : chunks) {
+            totalLength += chunk.values().length;
+        }
+
+        float[] values = new float[Math.toIntExact(totalLength)];
+        int offset = 0;
+        for (ParsedChunk chunk : chunks) {
+            System.arraycopy(chunk.values(), 0, values, offset, chunk.values().length);
+            offset += chunk.values().length;
+        }
+        return values;
+    }
+}
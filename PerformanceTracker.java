@@ -1,7 +1,26 @@
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Клас PerformanceTracker відстежує продуктивність операцій з даними.
+ * 
+ * <p>Тривалості накопичуються в реєстрі, де кожній назві операції відповідає
+ * {@link LatencyHistogram}. Метод {@link #printReport()} виводить для кожної операції
+ * кількість вимірів, мінімум, середнє, p50, p90, p99, p99.9 та максимум. На час прогріву запис
+ * вимикається через {@link #setRecordingEnabled(boolean)}, тож прогрівальні виконання не
+ * потрапляють до гістограм.</p>
+ *
+ * <p>Поруч із тривалостями звіт виводить лічильники подій, наприклад відповідей фільтра
+ * Блума ({@link #incrementCounter(String)}).</p>
  */
 public class PerformanceTracker {
+    private static final Map<String, LatencyHistogram> REGISTRY = new LinkedHashMap<>();
+    private static final Map<String, LongAdder> COUNTERS = new LinkedHashMap<>();
+    private static volatile boolean recordingEnabled = true;
+
     /**
      * Відображає тривалість виконання операції в наносекундах.
      * 
@@ -11,6 +30,105 @@ public class PerformanceTracker {
     public static void displayOperationTime(long startTime, String operationName) {
         long finishTime = System.nanoTime();
         long executionTime = (finishTime - startTime);
+        if (recordingEnabled) {
+            histogram(operationName).recordValue(executionTime);
+        }
         System.out.println("\n========= Тривалість операції '" + operationName + "': " + executionTime + " нс =========");
     }
-}
\ No newline at end of file
+
+    /**
+     * Записує тривалість виконання операції до реєстру без виведення.
+     * 
+     * @param startTime Початковий час операції в наносекундах.
+     * @param operationName Назва операції.
+     */
+    public static void recordOperationTime(long startTime, String operationName) {
+        long finishTime = System.nanoTime();
+        if (recordingEnabled) {
+            histogram(operationName).recordValue(finishTime - startTime);
+        }
+    }
+
+    /**
+     * Вмикає або вимикає запис тривалостей, наприклад на час прогріву.
+     * 
+     * @param enabled true, щоб записувати тривалості.
+     */
+    public static void setRecordingEnabled(boolean enabled) {
+        recordingEnabled = enabled;
+    }
+
+    /**
+     * @param operationName Назва операції.
+     * @return Гістограма операції, створена за потреби.
+     */
+    static LatencyHistogram histogram(String operationName) {
+        synchronized (REGISTRY) {
+            return REGISTRY.computeIfAbsent(operationName, name -> new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Збільшує лічильник події на одиницю, якщо запис увімкнено.
+     * 
+     * @param counterName Назва лічильника.
+     */
+    public static void incrementCounter(String counterName) {
+        addToCounter(counterName, 1);
+    }
+
+    /**
+     * Додає до лічильника події задану кількість, якщо запис увімкнено.
+     * 
+     * @param counterName Назва лічильника.
+     * @param amount Кількість подій.
+     */
+    public static void addToCounter(String counterName, long amount) {
+        if (!recordingEnabled) {
+            return;
+        }
+        LongAdder counter;
+        synchronized (COUNTERS) {
+            counter = COUNTERS.computeIfAbsent(counterName, name -> new LongAdder());
+        }
+        counter.add(amount);
+    }
+
+    /**
+     * Виводить перцентилі тривалостей усіх операцій у порядку їх першого запису,
+     * а потім значення лічильників.
+     */
+    public static void printReport() {
+        List<Map.Entry<String, LatencyHistogram>> entries;
+        synchronized (REGISTRY) {
+            entries = new ArrayList<>(REGISTRY.entrySet());
+        }
+        if (!entries.isEmpty()) {
+            System.out.println("\n========= Тривалість операцій, нс =========");
+            System.out.printf("%-64s %7s %11s %11s %11s %11s %11s %11s %11s%n",
+                    "Операція", "N", "min", "mean", "p50", "p90", "p99", "p99.9", "max");
+            for (Map.Entry<String, LatencyHistogram> entry : entries) {
+                LatencyHistogram histogram = entry.getValue();
+                System.out.printf("%-64s %7d %11d %11.0f %11d %11d %11d %11d %11d%n", entry.getKey(), histogram.count(),
+                        histogram.min(), histogram.mean(), histogram.valueAtPercentile(50), histogram.valueAtPercentile(90),
+                        histogram.valueAtPercentile(99), histogram.valueAtPercentile(99.9), histogram.max());
+            }
+        }
+        printCounters();
+    }
+
+    private static void printCounters() {
+        List<Map.Entry<String, LongAdder>> counters;
+        synchronized (COUNTERS) {
+            counters = new ArrayList<>(COUNTERS.entrySet());
+        }
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        System.out.println("\n========= Лічильники подій =========");
+        for (Map.Entry<String, LongAdder> entry : counters) {
+            System.out.printf("%-64s %11d%n", entry.getKey(), entry.getValue().sum());
+        }
+    }
+}
@@ -0,0 +1,267 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Клас ReverseIndexedMap - обгортка над Map, що підтримує зворотний індекс значення → множина ключів.
+ *
+ * <p>Кожна зміна через обгортку (put, remove, clear, видалення ітератором, setValue запису)
+ * оновлює і вкладену Map, і індекс, тож пошук та видалення за значенням коштують O(кількості
+ * збігів) замість перегляду всіх записів. Порядок обходу, порівняння ключів і решта поведінки
+ * визначаються вкладеною Map. Змінювати вкладену Map в обхід обгортки не можна - індекс
+ * розійдеться з нею.</p>
+ *
+ * <p>Індекс займає окрему пам'ять на кожен ключ і кожне різне значення; її оцінку повертає
+ * {@link #estimatedIndexBytes()}, щоб вирішувати для кожної Map, чи вмикати індекс.
+ * Значення null не підтримуються.</p>
+ *
+ * @param <K> Тип ключа
+ * @param <V> Тип значення
+ */
+class ReverseIndexedMap<K, V> extends AbstractMap<K, V> {
+    // розміри об'єктів 64-бітної JVM зі стисненими посиланнями
+    private static final int NODE_BYTES = 32;
+    private static final int HASH_SET_BYTES = 16;
+    private static final int HASH_MAP_BYTES = 48;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int DEFAULT_TABLE_CAPACITY = 16;
+
+    private final Map<K, V> map;
+    private final Map<V, Set<K>> keysByValue = new HashMap<>();
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Обгортає Map і будує індекс над її поточними записами.
+     *
+     * @param map Вкладена Map; надалі змінюється лише через обгортку
+     * @throws NullPointerException Якщо Map містить значення null
+     */
+    ReverseIndexedMap(Map<K, V> map) {
+        this.map = map;
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            index(entry.getKey(), Objects.requireNonNull(entry.getValue(), "Значення не може бути null"));
+        }
+    }
+
+    /**
+     * @return Вкладена Map; лише для читання, щоб не розійтися з індексом
+     */
+    Map<K, V> delegate() {
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return keysByValue.containsKey(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Значення не може бути null");
+        V previous = map.put(key, value);
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        index(key, value);
+        return previous;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        V previous = map.remove(key);
+        if (previous != null) {
+            // ключ був у Map, тож має тип K
+            unindex((K) key, previous);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        keysByValue.clear();
+    }
+
+    /**
+     * @return Незмінне подання ключів із заданим значенням; порожнє, якщо таких немає
+     */
+    Set<K> keysForValue(V value) {
+        Set<K> keys = keysByValue.get(value);
+        return keys == null ? Collections.emptySet() : Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Видаляє всі записи із заданим значенням за O(кількості збігів).
+     *
+     * @return Видалені ключі
+     */
+    List<K> removeByValue(V value) {
+        Set<K> keys = keysByValue.remove(value);
+        if (keys == null) {
+            return List.of();
+        }
+        for (K key : keys) {
+            map.remove(key);
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * @return Кількість різних значень
+     */
+    int distinctValueCount() {
+        return keysByValue.size();
+    }
+
+    /**
+     * Оцінює пам'ять індексу: вузол і таблицю зовнішньої HashMap на кожне різне значення,
+     * HashSet ключів на кожне значення та вузол на кожен ключ. Самі ключі й значення
+     * належать Map і не враховуються.
+     *
+     * @return Оцінка в байтах
+     */
+    long estimatedIndexBytes() {
+        long bytes = HASH_MAP_BYTES + tableBytes(keysByValue.size());
+        for (Set<K> keys : keysByValue.values()) {
+            bytes += NODE_BYTES + HASH_SET_BYTES + HASH_MAP_BYTES + tableBytes(keys.size()) + (long) keys.size() * NODE_BYTES;
+        }
+        return bytes;
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void index(K key, V value) {
+        keysByValue.computeIfAbsent(value, ignored -> new HashSet<>()).add(key);
+    }
+
+    private void unindex(K key, V value) {
+        Set<K> keys = keysByValue.get(value);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            keysByValue.remove(value);
+        }
+    }
+
+    private static long tableBytes(int entryCount) {
+        // HashMap тримає заповнення таблиці не вище 0.75, а її розмір - степінь двійки
+        int capacity = DEFAULT_TABLE_CAPACITY;
+        while (capacity * 3L / 4 < entryCount) {
+            capacity <<= 1;
+        }
+        return ARRAY_HEADER_BYTES + (long) capacity * REFERENCE_BYTES;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+            return new Iterator<>() {
+                private Map.Entry<K, V> last;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    last = iterator.next();
+                    return new IndexedEntry(last);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    K key = last.getKey();
+                    V value = last.getValue();
+                    iterator.remove();
+                    unindex(key, value);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            ReverseIndexedMap.this.clear();
+        }
+    }
+
+    private final class IndexedEntry implements Map.Entry<K, V> {
+        private final Map.Entry<K, V> entry;
+
+        IndexedEntry(Map.Entry<K, V> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public V getValue() {
+            return entry.getValue();
+        }
+
+        @Override
+        public V setValue(V value) {
+            Objects.requireNonNull(value, "Значення не може бути null");
+            V previous = entry.setValue(value);
+            unindex(entry.getKey(), previous);
+            index(entry.getKey(), value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return entry.equals(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return entry.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return entry.toString();
+        }
+    }
+}
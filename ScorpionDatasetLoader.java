@@ -0,0 +1,542 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Клас ScorpionDatasetLoader завантажує записи скорпіон → власник з текстового файлу і будує з
+ * них одразу три Map процесора {@link BasicDataOperationUsingMap}.
+ *
+ * <p>Кожен рядок файлу має вигляд {@code кличка,вид,власник}; рядки, що починаються з {@code #},
+ * пропускаються. Файл розбирається один раз: рядки читаються як діапазони байтів
+ * ({@link ByteLineReader}), а клички, власники та значення виду інтернуються за байтами, тож кожне
+ * різне значення декодується лише один раз і всі три Map ділять ті самі ключі й рядки.</p>
+ *
+ * <p>ScorpionHashMap і LinkedHashMap створюються одразу потрібного розміру й не перебудовують
+ * таблиць. TreeMap будується з відсортованого масиву ключів за O(n) через
+ * {@link TreeMap#TreeMap(SortedMap)}; для файлу, вже впорядкованого за
+ * {@link BasicDataOperationUsingMap#SCORPION_COMPARATOR}, сортування пропускається. Якщо ключ
+ * повторюється, залишається останній власник, як і при послідовних викликах put.</p>
+ */
+public class ScorpionDatasetLoader {
+    private static final char FIELD_SEPARATOR = ',';
+    private static final byte COMMENT_MARKER = '#';
+    private static final int INITIAL_ROW_CAPACITY = 1 << 10;
+
+    private static final String[] SAMPLE_NICKNAMES = {
+        "Шип", "Жало", "Клеш", "Панцир", "Хвіст", "Терен", "Скорп", "Ракун", "Оса", "Гак"
+    };
+    private static final String[] SAMPLE_OWNERS = {
+        "Орест", "Зоряна", "Макар", "Іринка", "Демид", "Оксана", "Юхим", "Ярина", "Владислав", "Тарас"
+    };
+    private static final int SAMPLE_NICKNAME_VARIANTS = 5000;
+    private static final int SAMPLE_OWNER_VARIANTS = 100;
+
+    /**
+     * Результат завантаження разом зі статистикою розбору та побудови кожної Map.
+     *
+     * @param hashtable ScorpionHashMap з усіма записами.
+     * @param linkedHashMap LinkedHashMap з записами у порядку файлу.
+     * @param treeMap TreeMap з {@link BasicDataOperationUsingMap#SCORPION_COMPARATOR}.
+     * @param rowCount Кількість розібраних рядків даних.
+     * @param bytesRead Розмір файлу в байтах.
+     * @param distinctNicknames Кількість різних кличок.
+     * @param distinctOwners Кількість різних власників.
+     * @param inputSorted true, якщо рядки файлу вже впорядковані за ключем.
+     * @param parseNanos Тривалість розбору файлу в наносекундах.
+     * @param hashtableNanos Тривалість побудови ScorpionHashMap в наносекундах.
+     * @param linkedHashMapNanos Тривалість побудови LinkedHashMap в наносекундах.
+     * @param treeMapNanos Тривалість побудови TreeMap разом із сортуванням ключів в наносекундах.
+     */
+    record LoadResult(ScorpionHashMap<String> hashtable, LinkedHashMap<BasicDataOperationUsingMap.Scorpion, String> linkedHashMap,
+            TreeMap<BasicDataOperationUsingMap.Scorpion, String> treeMap, int rowCount, long bytesRead,
+            int distinctNicknames, int distinctOwners, boolean inputSorted,
+            long parseNanos, long hashtableNanos, long linkedHashMapNanos, long treeMapNanos) {
+        /**
+         * @return Швидкість розбору в рядках за секунду.
+         */
+        double rowsPerSecond() {
+            return rowCount / (Math.max(parseNanos, 1) / 1e9);
+        }
+
+        /**
+         * @return Швидкість розбору в МБ/с.
+         */
+        double throughputMegabytesPerSecond() {
+            return bytesRead / (1024.0 * 1024.0) / (Math.max(parseNanos, 1) / 1e9);
+        }
+    }
+
+    /**
+     * Розбирає файл і будує з нього ScorpionHashMap, LinkedHashMap та TreeMap.
+     *
+     * @param filePath Шлях до файлу з даними.
+     * @return Результат завантаження.
+     * @throws IllegalArgumentException Якщо рядок файлу не має вигляду {@code кличка,вид,власник}.
+     */
+    public static LoadResult load(String filePath) {
+        long timeStart = System.nanoTime();
+        RowParser parser = new RowParser();
+        ByteLineReader.readLines(filePath, parser);
+        long parseNanos = finishStage(timeStart, "завантаження Scorpion: розбір файлу");
+
+        int rowCount = parser.rowCount;
+        BasicDataOperationUsingMap.Scorpion[] keys = parser.keys;
+        String[] owners = parser.owners;
+
+        timeStart = System.nanoTime();
+        ScorpionHashMap<String> hashtable = new ScorpionHashMap<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            hashtable.put(keys[i], owners[i]);
+        }
+        long hashtableNanos = finishStage(timeStart, "завантаження Scorpion: побудова ScorpionHashMap");
+
+        timeStart = System.nanoTime();
+        LinkedHashMap<BasicDataOperationUsingMap.Scorpion, String> linkedHashMap = new LinkedHashMap<>(hashCapacity(rowCount));
+        for (int i = 0; i < rowCount; i++) {
+            linkedHashMap.put(keys[i], owners[i]);
+        }
+        long linkedHashMapNanos = finishStage(timeStart, "завантаження Scorpion: побудова LinkedHashMap");
+
+        timeStart = System.nanoTime();
+        BasicDataOperationUsingMap.Scorpion[] sortedKeys = Arrays.copyOf(keys, rowCount);
+        boolean inputSorted = isSorted(sortedKeys, BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+        if (!inputSorted) {
+            Arrays.sort(sortedKeys, BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+        }
+        int distinctKeys = removeAdjacentDuplicates(sortedKeys, BasicDataOperationUsingMap.SCORPION_COMPARATOR);
+        // власник кожного ключа береться з ScorpionHashMap, де вже залишився останній з повторів
+        TreeMap<BasicDataOperationUsingMap.Scorpion, String> treeMap = new TreeMap<>(
+                new SortedRun<>(sortedKeys, distinctKeys, hashtable, BasicDataOperationUsingMap.SCORPION_COMPARATOR));
+        long treeMapNanos = finishStage(timeStart, "завантаження Scorpion: побудова TreeMap");
+
+        return new LoadResult(hashtable, linkedHashMap, treeMap, rowCount, fileSize(filePath),
+                parser.nicknames.size(), parser.ownerNames.size(), inputSorted,
+                parseNanos, hashtableNanos, linkedHashMapNanos, treeMapNanos);
+    }
+
+    /**
+     * Виводить швидкість розбору та тривалість побудови кожної Map.
+     *
+     * @param filePath Шлях до завантаженого файлу.
+     * @param result Результат завантаження.
+     */
+    static void printLoadReport(String filePath, LoadResult result) {
+        System.out.printf("Завантажено %d записів (%.2f МБ) з файлу %s%n",
+                result.rowCount(), result.bytesRead() / (1024.0 * 1024.0), filePath);
+        System.out.printf("Розбір: %.1f мс, %.0f рядків/с, %.1f МБ/с; різних кличок: %d, власників: %d%n",
+                result.parseNanos() / 1e6, result.rowsPerSecond(), result.throughputMegabytesPerSecond(),
+                result.distinctNicknames(), result.distinctOwners());
+        System.out.printf("Побудова: ScorpionHashMap %.1f мс, LinkedHashMap %.1f мс, TreeMap %.1f мс (%s)%n",
+                result.hashtableNanos() / 1e6, result.linkedHashMapNanos() / 1e6, result.treeMapNanos() / 1e6,
+                result.inputSorted() ? "файл уже впорядкований" : "з сортуванням ключів");
+    }
+
+    /**
+     * Записує синтетичний набір даних у форматі завантажувача.
+     *
+     * <p>Клички та власники складаються з невеликих наборів основ з числовими суфіксами, тож
+     * повторюються так само, як у реальних даних, а пара кличка-вид майже завжди унікальна.</p>
+     *
+     * @param path Шлях до файлу.
+     * @param rowCount Кількість рядків.
+     * @param seed Зерно генератора випадкових чисел.
+     */
+    static void writeSample(Path path, int rowCount, long seed) {
+        Random random = new Random(seed);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("# nickname,species,owner");
+            writer.newLine();
+            for (int i = 0; i < rowCount; i++) {
+                int nickname = random.nextInt(SAMPLE_NICKNAMES.length * SAMPLE_NICKNAME_VARIANTS);
+                int owner = random.nextInt(SAMPLE_OWNERS.length * SAMPLE_OWNER_VARIANTS);
+                int species = 30 + random.nextInt(1000);
+                writer.write(SAMPLE_NICKNAMES[nickname % SAMPLE_NICKNAMES.length]);
+                writer.write(Integer.toString(nickname / SAMPLE_NICKNAMES.length));
+                writer.write(FIELD_SEPARATOR);
+                writer.write(species / 10 + "." + species % 10);
+                writer.write(FIELD_SEPARATOR);
+                writer.write(SAMPLE_OWNERS[owner % SAMPLE_OWNERS.length]);
+                writer.write(Integer.toString(owner / SAMPLE_OWNERS.length));
+                writer.newLine();
+            }
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка запису даних у файл: " + path, ioException);
+        }
+    }
+
+    /**
+     * Завантажує файл і виводить звіт. З параметром {@code --generate=N} спершу записує у файл
+     * синтетичний набір з N рядків.
+     */
+    public static void main(String[] args) {
+        String filePath = BasicDataOperationUsingMap.PATH_TO_DATA_FILE;
+        int generatedRows = 0;
+        for (String arg : args) {
+            if (arg.startsWith("--generate=")) {
+                generatedRows = Integer.parseInt(arg.substring("--generate=".length()));
+            } else if (arg.startsWith("--")) {
+                System.out.println("Використання: java ScorpionDatasetLoader [--generate=N] [list/Scorpion.data]");
+                return;
+            } else {
+                filePath = arg;
+            }
+        }
+
+        if (generatedRows > 0) {
+            long timeStart = System.nanoTime();
+            writeSample(Path.of(filePath), generatedRows, 42);
+            PerformanceTracker.displayOperationTime(timeStart, "запис синтетичного набору Scorpion");
+        }
+
+        LoadResult result = load(filePath);
+        printLoadReport(filePath, result);
+        PerformanceTracker.printReport();
+    }
+
+    private static long finishStage(long timeStart, String operationName) {
+        PerformanceTracker.recordOperationTime(timeStart, operationName);
+        return System.nanoTime() - timeStart;
+    }
+
+    private static long fileSize(String filePath) {
+        try {
+            return Files.size(Path.of(filePath));
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка читання даних з файлу: " + filePath, ioException);
+        }
+    }
+
+    static int hashCapacity(int expectedSize) {
+        // стандартні хеш-таблиці розширюються при заповненні 0.75
+        return Math.max(16, (int) (expectedSize / 0.75f) + 1);
+    }
+
+    private static <K> boolean isSorted(K[] keys, Comparator<? super K> comparator) {
+        for (int i = 1; i < keys.length; i++) {
+            if (comparator.compare(keys[i - 1], keys[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <K> int removeAdjacentDuplicates(K[] keys, Comparator<? super K> comparator) {
+        if (keys.length == 0) {
+            return 0;
+        }
+        int distinct = 1;
+        for (int i = 1; i < keys.length; i++) {
+            if (comparator.compare(keys[distinct - 1], keys[i]) != 0) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return distinct;
+    }
+
+    /**
+     * Приймач рядків файлу: розбирає поля й накопичує ключі та власників у порядку файлу.
+     */
+    private static final class RowParser implements ByteLineReader.LineSink {
+        private final ByteInterner<String> nicknames = new ByteInterner<>(ScorpionDatasetLoader::decodeText);
+        private final ByteInterner<String> ownerNames = new ByteInterner<>(ScorpionDatasetLoader::decodeText);
+        private final ByteInterner<Double> species = new ByteInterner<>(ScorpionDatasetLoader::decodeSpecies);
+        private BasicDataOperationUsingMap.Scorpion[] keys = new BasicDataOperationUsingMap.Scorpion[INITIAL_ROW_CAPACITY];
+        private String[] owners = new String[INITIAL_ROW_CAPACITY];
+        private int rowCount;
+
+        @Override
+        public void accept(byte[] buffer, int start, int end) {
+            if (buffer[start] == COMMENT_MARKER) {
+                return;
+            }
+            int firstSeparator = indexOf(buffer, start, end);
+            int secondSeparator = firstSeparator < 0 ? -1 : indexOf(buffer, firstSeparator + 1, end);
+            if (secondSeparator < 0) {
+                throw malformedRow(buffer, start, end, null);
+            }
+
+            String nickname = internField(nicknames, buffer, start, firstSeparator);
+            String owner = internField(ownerNames, buffer, secondSeparator + 1, end);
+            Double speciesValue;
+            try {
+                speciesValue = internField(species, buffer, firstSeparator + 1, secondSeparator);
+            } catch (NumberFormatException numberFormatException) {
+                throw malformedRow(buffer, start, end, numberFormatException);
+            }
+            if (nickname == null || owner == null || speciesValue == null) {
+                throw malformedRow(buffer, start, end, null);
+            }
+
+            if (rowCount == keys.length) {
+                keys = Arrays.copyOf(keys, rowCount * 2);
+                owners = Arrays.copyOf(owners, rowCount * 2);
+            }
+            keys[rowCount] = new BasicDataOperationUsingMap.Scorpion(nickname, speciesValue);
+            owners[rowCount] = owner;
+            rowCount++;
+        }
+
+        private static int indexOf(byte[] buffer, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (buffer[i] == FIELD_SEPARATOR) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static <T> T internField(ByteInterner<T> interner, byte[] buffer, int start, int end) {
+            while (start < end && buffer[start] == ' ') {
+                start++;
+            }
+            while (end > start && buffer[end - 1] == ' ') {
+                end--;
+            }
+            return start == end ? null : interner.intern(buffer, start, end);
+        }
+
+        private static IllegalArgumentException malformedRow(byte[] buffer, int start, int end, Exception cause) {
+            return new IllegalArgumentException("Некоректний рядок даних (очікується кличка,вид,власник): "
+                    + decodeText(buffer, start, end), cause);
+        }
+    }
+
+    private static String decodeText(byte[] buffer, int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static Double decodeSpecies(byte[] buffer, int start, int end) {
+        return Double.valueOf(new String(buffer, start, end - start, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Таблиця інтернування за вмістом байтів: для кожної різної послідовності байтів значення
+     * створюється один раз, а повтори повертають той самий об'єкт без декодування.
+     */
+    private static final class ByteInterner<T> {
+        @FunctionalInterface
+        interface ValueFactory<T> {
+            T create(byte[] buffer, int start, int end);
+        }
+
+        private final ValueFactory<T> factory;
+        private byte[][] contents = new byte[16][];
+        private int[] hashes = new int[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        ByteInterner(ValueFactory<T> factory) {
+            this.factory = factory;
+        }
+
+        int size() {
+            return size;
+        }
+
+        @SuppressWarnings("unchecked")
+        T intern(byte[] buffer, int start, int end) {
+            int hash = hash(buffer, start, end);
+            int mask = contents.length - 1;
+            int slot = hash & mask;
+            while (contents[slot] != null) {
+                if (hashes[slot] == hash && Arrays.equals(contents[slot], 0, contents[slot].length, buffer, start, end)) {
+                    return (T) values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            T value = factory.create(buffer, start, end);
+            contents[slot] = Arrays.copyOfRange(buffer, start, end);
+            hashes[slot] = hash;
+            values[slot] = value;
+            if (++size * 2 > contents.length) {
+                resize();
+            }
+            return value;
+        }
+
+        private void resize() {
+            byte[][] oldContents = contents;
+            int[] oldHashes = hashes;
+            Object[] oldValues = values;
+            contents = new byte[oldContents.length * 2][];
+            hashes = new int[contents.length];
+            values = new Object[contents.length];
+            int mask = contents.length - 1;
+            for (int i = 0; i < oldContents.length; i++) {
+                if (oldContents[i] == null) {
+                    continue;
+                }
+                int slot = oldHashes[i] & mask;
+                while (contents[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                contents[slot] = oldContents[i];
+                hashes[slot] = oldHashes[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static int hash(byte[] buffer, int start, int end) {
+            int hash = 1;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + buffer[i];
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Незмінне подання відсортованого масиву різних ключів як {@link SortedMap}: з нього
+     * {@link TreeMap#TreeMap(SortedMap)} будує дерево за O(n) без порівнянь. Значення беруться з
+     * іншої Map за ключем. Піддіапазони - подання над частиною того самого масиву, межі якої
+     * знаходяться двійковим пошуком.
+     */
+    private static final class SortedRun<K, V> extends AbstractMap<K, V> implements SortedMap<K, V> {
+        private final K[] keys;
+        private final int from;
+        private final int to;
+        private final Map<K, V> values;
+        private final Comparator<? super K> comparator;
+        // межі діапазону, заданого при створенні подання (нижня включно, верхня ні); null - без межі
+        private final K lowKey;
+        private final K highKey;
+
+        SortedRun(K[] keys, int size, Map<K, V> values, Comparator<? super K> comparator) {
+            this(keys, 0, size, values, comparator, null, null);
+        }
+
+        private SortedRun(K[] keys, int from, int to, Map<K, V> values, Comparator<? super K> comparator,
+                K lowKey, K highKey) {
+            this.keys = keys;
+            this.from = from;
+            this.to = to;
+            this.values = values;
+            this.comparator = comparator;
+            this.lowKey = lowKey;
+            this.highKey = highKey;
+        }
+
+        @Override
+        public Comparator<? super K> comparator() {
+            return comparator;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public K firstKey() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return keys[from];
+        }
+
+        @Override
+        public K lastKey() {
+            if (from == to) {
+                throw new NoSuchElementException();
+            }
+            return keys[to - 1];
+        }
+
+        @Override
+        public SortedMap<K, V> subMap(K fromKey, K toKey) {
+            checkInRange(fromKey, false);
+            checkInRange(toKey, true);
+            if (comparator.compare(fromKey, toKey) > 0) {
+                throw new IllegalArgumentException("Початок діапазону більший за його кінець");
+            }
+            return new SortedRun<>(keys, lowerBound(fromKey), lowerBound(toKey), values, comparator, fromKey, toKey);
+        }
+
+        @Override
+        public SortedMap<K, V> headMap(K toKey) {
+            checkInRange(toKey, true);
+            return new SortedRun<>(keys, from, lowerBound(toKey), values, comparator, lowKey, toKey);
+        }
+
+        @Override
+        public SortedMap<K, V> tailMap(K fromKey) {
+            checkInRange(fromKey, false);
+            return new SortedRun<>(keys, lowerBound(fromKey), to, values, comparator, fromKey, highKey);
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new Iterator<>() {
+                        private int position = from;
+
+                        @Override
+                        public boolean hasNext() {
+                            return position < to;
+                        }
+
+                        @Override
+                        public Map.Entry<K, V> next() {
+                            if (position >= to) {
+                                throw new NoSuchElementException();
+                            }
+                            K key = keys[position++];
+                            return new AbstractMap.SimpleImmutableEntry<>(key, values.get(key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+
+        /**
+         * Перевіряє, що ключ лежить у діапазоні подання, як це робить TreeMap: верхня межа
+         * допустима лише як кінець нового діапазону ({@code upperBound}), бо сама вона не входить
+         * до діапазону.
+         */
+        private void checkInRange(K key, boolean upperBound) {
+            if (lowKey != null && comparator.compare(key, lowKey) < 0
+                    || highKey != null && comparator.compare(key, highKey) >= (upperBound ? 1 : 0)) {
+                throw new IllegalArgumentException("Ключ поза діапазоном: " + key);
+            }
+        }
+
+        /**
+         * @return Індекс першого ключа в межах подання, не меншого за заданий
+         */
+        private int lowerBound(K key) {
+            int low = from;
+            int high = to;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(keys[middle], key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,376 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Клас ScorpionHashMap - хеш-таблиця з відкритою адресацією для ключів
+ * {@link BasicDataOperationUsingMap.Scorpion}.
+ *
+ * <p>Записи лежать у масивах з лінійним зондуванням. Для кожного запису поруч зберігаються хеш
+ * ключа і біти виду ({@link Double#doubleToLongBits(double)}) в одному масиві long, а ключ,
+ * його прізвисько і значення - в одному масиві посилань. Зондування читає лише примітиви,
+ * тож пошук відсутнього ключа не торкається жодного об'єкта; для справжнього збігу прізвисько
+ * порівнюється без переходу до об'єкта ключа, найчастіше за посиланням. Видалення залишає
+ * позначку, яку пропускає пошук і займає вставка; позначки прибираються під час перебудови.</p>
+ *
+ * <p>Рівність ключів збігається з {@code Scorpion.equals}: однакові прізвиська і
+ * {@link Double#equals(Object)} видів. Як і {@link java.util.Hashtable}, таблиця не приймає null
+ * як ключ чи значення. Таблиця не блокує монітор на кожній операції; для спільного
+ * використання потоками її слід обгорнути {@link java.util.Collections#synchronizedMap(Map)}.</p>
+ *
+ * @param <V> Тип значення
+ */
+class ScorpionHashMap<V> extends AbstractMap<BasicDataOperationUsingMap.Scorpion, V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+    // doubleToLongBits зводить усі NaN до 0x7ff8000000000000L, тож цей шаблон позначає лише null
+    private static final long NULL_SPECIES_BITS = 0x7ff0000000000001L;
+    // стан запису: 0 - порожній, REMOVED - видалений, OCCUPIED з хешем у молодших 32 бітах - зайнятий
+    private static final long OCCUPIED = 1L << 32;
+    private static final long REMOVED = -1L;
+    private static final int KEY = 0;
+    private static final int NICKNAME = 1;
+    private static final int VALUE = 2;
+    private static final int ENTRY_STRIDE = 3;
+
+    private int capacity;
+    // біти виду за індексом 2i, стан і хеш за індексом 2i + 1
+    private long[] slotData;
+    // ключ, прізвисько і значення запису i за індексами 3i, 3i + 1, 3i + 2
+    private Object[] entries;
+    private int size;
+    // зайняті записи разом з позначками видалення
+    private int usedSlots;
+    private int resizeThreshold;
+    private int modificationCount;
+    private Set<Map.Entry<BasicDataOperationUsingMap.Scorpion, V>> entrySet;
+
+    ScorpionHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize Очікувана кількість записів, що вміщується без перебудови
+     */
+    ScorpionHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Копіює записи іншої Map.
+     */
+    ScorpionHashMap(Map<? extends BasicDataOperationUsingMap.Scorpion, ? extends V> source) {
+        this(source.size());
+        putAll(source);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof BasicDataOperationUsingMap.Scorpion scorpion && indexOf(scorpion) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (!(key instanceof BasicDataOperationUsingMap.Scorpion scorpion)) {
+            return null;
+        }
+        int index = indexOf(scorpion);
+        return index >= 0 ? (V) entries[index * ENTRY_STRIDE + VALUE] : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(BasicDataOperationUsingMap.Scorpion key, V value) {
+        Objects.requireNonNull(key, "Ключ не може бути null");
+        Objects.requireNonNull(value, "Значення не може бути null");
+
+        String nickname = key.nickname();
+        long bits = speciesBits(key);
+        int hash = hash(nickname, bits);
+        long state = OCCUPIED | (hash & 0xFFFFFFFFL);
+        int mask = capacity - 1;
+        int firstRemoved = -1;
+        int index = hash & mask;
+        while (true) {
+            long current = slotData[2 * index + 1];
+            if (current == 0) {
+                break;
+            }
+            if (current == REMOVED) {
+                if (firstRemoved < 0) {
+                    firstRemoved = index;
+                }
+            } else if (current == state && slotData[2 * index] == bits && sameNickname(index, nickname)) {
+                int valueIndex = index * ENTRY_STRIDE + VALUE;
+                V previous = (V) entries[valueIndex];
+                entries[valueIndex] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (firstRemoved >= 0) {
+            index = firstRemoved;
+        } else {
+            usedSlots++;
+        }
+        slotData[2 * index] = bits;
+        slotData[2 * index + 1] = state;
+        int base = index * ENTRY_STRIDE;
+        entries[base + KEY] = key;
+        entries[base + NICKNAME] = nickname;
+        entries[base + VALUE] = value;
+        size++;
+        modificationCount++;
+        if (usedSlots > resizeThreshold) {
+            rehash(tableSizeFor(size));
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (!(key instanceof BasicDataOperationUsingMap.Scorpion scorpion)) {
+            return null;
+        }
+        int index = indexOf(scorpion);
+        if (index < 0) {
+            return null;
+        }
+        V previous = (V) entries[index * ENTRY_STRIDE + VALUE];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(slotData, 0);
+        Arrays.fill(entries, null);
+        size = 0;
+        usedSlots = 0;
+        modificationCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<BasicDataOperationUsingMap.Scorpion, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(BasicDataOperationUsingMap.Scorpion key) {
+        String nickname = key.nickname();
+        long bits = speciesBits(key);
+        int hash = hash(nickname, bits);
+        long state = OCCUPIED | (hash & 0xFFFFFFFFL);
+        int mask = capacity - 1;
+        int index = hash & mask;
+        while (true) {
+            long current = slotData[2 * index + 1];
+            if (current == 0) {
+                return -1;
+            }
+            if (current == state && slotData[2 * index] == bits && sameNickname(index, nickname)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private boolean sameNickname(int index, String nickname) {
+        Object stored = entries[index * ENTRY_STRIDE + NICKNAME];
+        return stored == nickname || nickname != null && nickname.equals(stored);
+    }
+
+    private void removeAt(int index) {
+        slotData[2 * index + 1] = REMOVED;
+        int base = index * ENTRY_STRIDE;
+        entries[base + KEY] = null;
+        entries[base + NICKNAME] = null;
+        entries[base + VALUE] = null;
+        size--;
+        modificationCount++;
+    }
+
+    private boolean isOccupied(int index) {
+        long state = slotData[2 * index + 1];
+        return state != 0 && state != REMOVED;
+    }
+
+    private static long speciesBits(BasicDataOperationUsingMap.Scorpion key) {
+        Double species = key.species();
+        return species == null ? NULL_SPECIES_BITS : Double.doubleToLongBits(species);
+    }
+
+    private static int hash(String nickname, long speciesBits) {
+        // хеш рядка кешується в самому String, тож обчислюється лише раз на рядок
+        long hash = (nickname == null ? 0 : nickname.hashCode()) * 0x9E3779B97F4A7C15L ^ speciesBits;
+        hash *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int minimum = (int) Math.min((long) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR) + 1, 1 << 29);
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(minimum - 1) << 1);
+    }
+
+    private void allocate(int capacity) {
+        this.capacity = capacity;
+        slotData = new long[2 * capacity];
+        entries = new Object[ENTRY_STRIDE * capacity];
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Переносить записи до таблиці заданої місткості, прибираючи позначки видалення.
+     */
+    private void rehash(int newCapacity) {
+        int oldCapacity = capacity;
+        long[] oldSlotData = slotData;
+        Object[] oldEntries = entries;
+        allocate(newCapacity);
+
+        int mask = newCapacity - 1;
+        for (int i = 0; i < oldCapacity; i++) {
+            long state = oldSlotData[2 * i + 1];
+            if (state == 0 || state == REMOVED) {
+                continue;
+            }
+            int index = (int) state & mask;
+            while (slotData[2 * index + 1] != 0) {
+                index = (index + 1) & mask;
+            }
+            slotData[2 * index] = oldSlotData[2 * i];
+            slotData[2 * index + 1] = state;
+            System.arraycopy(oldEntries, i * ENTRY_STRIDE, entries, index * ENTRY_STRIDE, ENTRY_STRIDE);
+        }
+        usedSlots = size;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<BasicDataOperationUsingMap.Scorpion, V>> {
+        @Override
+        public Iterator<Map.Entry<BasicDataOperationUsingMap.Scorpion, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            ScorpionHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<BasicDataOperationUsingMap.Scorpion, V>> {
+        private int nextIndex = advance(0);
+        private int lastIndex = -1;
+        private int expectedModificationCount = modificationCount;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < capacity;
+        }
+
+        @Override
+        public Map.Entry<BasicDataOperationUsingMap.Scorpion, V> next() {
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastIndex = nextIndex;
+            nextIndex = advance(nextIndex + 1);
+            return new Entry(lastIndex);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModificationCount != modificationCount) {
+                throw new ConcurrentModificationException();
+            }
+            // позначка видалення не зсуває інших записів, тож обхід триває з того самого місця
+            removeAt(lastIndex);
+            lastIndex = -1;
+            expectedModificationCount = modificationCount;
+        }
+
+        private int advance(int index) {
+            while (index < capacity && !isOccupied(index)) {
+                index++;
+            }
+            return index;
+        }
+    }
+
+    private final class Entry implements Map.Entry<BasicDataOperationUsingMap.Scorpion, V> {
+        private final int index;
+        private final BasicDataOperationUsingMap.Scorpion key;
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        Entry(int index) {
+            this.index = index;
+            this.key = (BasicDataOperationUsingMap.Scorpion) entries[index * ENTRY_STRIDE + KEY];
+            this.value = (V) entries[index * ENTRY_STRIDE + VALUE];
+        }
+
+        @Override
+        public BasicDataOperationUsingMap.Scorpion getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            Objects.requireNonNull(value, "Значення не може бути null");
+            // запис пишеться до таблиці, лише поки ключ лишається на своєму місці
+            if (entries[index * ENTRY_STRIDE + KEY] == key) {
+                entries[index * ENTRY_STRIDE + VALUE] = value;
+            }
+            V previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Map.Entry<?, ?> entry
+                    && key.equals(entry.getKey()) && value.equals(entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+}
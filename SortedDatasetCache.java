@@ -0,0 +1,136 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+import java.util.zip.CRC32C;
+
+/**
+ * Клас SortedDatasetCache зберігає відсортований індекс файлу даних між запусками.
+ *
+ * <p>Поруч з вихідним файлом зберігаються {@code .sorted} (текст), {@code .sorted.bin}
+ * (двійкова копія відсортованих значень), {@code .sorted.positions.bin} (позиції значень
+ * у вихідному файлі) та {@code .sorted.meta} з ключем кешу: розміром, часом зміни та контрольною
+ * сумою CRC32C вмісту вихідного файлу. Якщо ключ збігається, індекс відновлюється з двійкових
+ * копій без сортування.</p>
+ *
+ * <p>Оновлення передається до {@link DataFileHandler#submitWrite}, тож у режимі
+ * відкладеного запису виклик не чекає запису на диск.</p>
+ */
+public class SortedDatasetCache {
+    static final String SORTED_SUFFIX = ".sorted";
+    static final String META_SUFFIX = ".meta";
+    static final String POSITIONS_SUFFIX = ".positions";
+
+    private static final int HASH_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Ключ кешу, що описує стан вихідного файлу.
+     *
+     * @param size Розмір файлу в байтах
+     * @param lastModified Час останньої зміни в мілісекундах
+     * @param contentHash Контрольна сума CRC32C вмісту
+     */
+    record SourceKey(long size, long lastModified, long contentHash) {
+        static SourceKey of(Path path) throws IOException {
+            CRC32C checksum = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_SIZE);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                while (channel.read(buffer) > 0) {
+                    buffer.flip();
+                    checksum.update(buffer);
+                    buffer.clear();
+                }
+            }
+            return new SourceKey(Files.size(path), Files.getLastModifiedTime(path).toMillis(), checksum.getValue());
+        }
+    }
+
+    /**
+     * Відсортований індекс та ознака того, чи його взято з кешу.
+     *
+     * @param sortedIndex Відсортований індекс набору
+     * @param fromCache true, якщо індекс відновлено з диска без сортування
+     */
+    record SortedArtifact(FloatSortedIndex sortedIndex, boolean fromCache) {}
+
+    /**
+     * Повертає відсортований індекс набору даних: з кешу, якщо вихідний файл не змінився,
+     * або будує його один раз і оновлює збережені копії.
+     *
+     * @param sourceFilePath Шлях до вихідного файлу з даними
+     * @param values Значення вихідного файлу у порядку файлу
+     * @return Індекс та ознака влучання в кеш
+     */
+    static SortedArtifact loadOrBuild(String sourceFilePath, float[] values) {
+        String sortedFilePath = sourceFilePath + SORTED_SUFFIX;
+        Path metaPath = Path.of(sortedFilePath + META_SUFFIX);
+        Path binaryPath = Path.of(sortedFilePath + DataFileHandler.BINARY_EXTENSION);
+        Path positionsPath = Path.of(sortedFilePath + POSITIONS_SUFFIX + DataFileHandler.BINARY_EXTENSION);
+
+        try {
+            SourceKey sourceKey = SourceKey.of(Path.of(sourceFilePath));
+            if (sourceKey.equals(readStoredKey(metaPath))) {
+                FloatSortedIndex cachedIndex = readCachedIndex(values, binaryPath, positionsPath);
+                if (cachedIndex != null) {
+                    return new SortedArtifact(cachedIndex, true);
+                }
+            }
+
+            FloatSortedIndex sortedIndex = FloatSortedIndex.build(values);
+            // метадані записуються останніми, тож незавершений запис означає промах кешу
+            DataFileHandler.submitWrite("збереження " + sortedFilePath, () -> {
+                Files.deleteIfExists(metaPath);
+                DataFileHandler.writeArray(sortedIndex.sortedValues(), Path.of(sortedFilePath), DataFileHandler.DataFormat.TEXT);
+                FloatBinaryFormat.write(sortedIndex.sortedValues(), binaryPath);
+                FloatBinaryFormat.writeInts(sortedIndex.positions(), positionsPath);
+                writeStoredKey(metaPath, sourceKey);
+            });
+            return new SortedArtifact(sortedIndex, false);
+        } catch (IOException ioException) {
+            throw new RuntimeException("Помилка роботи з кешем відсортованих даних: " + sortedFilePath, ioException);
+        }
+    }
+
+    private static FloatSortedIndex readCachedIndex(float[] values, Path binaryPath, Path positionsPath) {
+        try {
+            return FloatSortedIndex.restore(values, FloatBinaryFormat.read(binaryPath), FloatBinaryFormat.readInts(positionsPath));
+        } catch (IOException | IllegalArgumentException exception) {
+            // відсутні або пошкоджені копії означають промах кешу
+            return null;
+        }
+    }
+
+    private static SourceKey readStoredKey(Path metaPath) {
+        if (!Files.exists(metaPath)) {
+            return null;
+        }
+
+        Properties properties = new Properties();
+        try (InputStream inputStream = Files.newInputStream(metaPath)) {
+            properties.load(inputStream);
+            return new SourceKey(
+                    Long.parseLong(properties.getProperty("source.size")),
+                    Long.parseLong(properties.getProperty("source.lastModified")),
+                    Long.parseLong(properties.getProperty("source.crc32c")));
+        } catch (IOException | RuntimeException exception) {
+            // пошкоджені метадані означають промах кешу
+            return null;
+        }
+    }
+
+    private static void writeStoredKey(Path metaPath, SourceKey sourceKey) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("source.size", Long.toString(sourceKey.size()));
+        properties.setProperty("source.lastModified", Long.toString(sourceKey.lastModified()));
+        properties.setProperty("source.crc32c", Long.toString(sourceKey.contentHash()));
+
+        try (OutputStream outputStream = Files.newOutputStream(metaPath)) {
+            properties.store(outputStream, null);
+        }
+    }
+}
@@ -0,0 +1,341 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Клас SortedFloatList - відсортований контейнер примітивних float зі вставкою і видаленням.
+ *
+ * <p>Значення зберігаються у відсортованих блоках до {@value #MAX_BLOCK_SIZE} ключів
+ * {@link FloatSortedIndex#sortableBits(float)}, тож порядок збігається з
+ * {@link Float#compare(float, float)}. Блок знаходиться двійковим пошуком за останніми ключами
+ * блоків, а всередині блоку - двійковим пошуком; вставка і видалення зсувають лише один блок,
+ * що вміщується в кеш L1. Повний блок ділиться навпіл, а малий зливається з сусіднім.</p>
+ *
+ * <p>Розміри блоків підсумовує дерево Фенвіка, тож доступ за позицією і позиція значення
+ * обчислюються за O(log n). Найменше і найбільше значення - перший ключ першого блоку і
+ * останній ключ останнього, тож доступні за O(1).</p>
+ */
+class SortedFloatList {
+    static final int MAX_BLOCK_SIZE = 512;
+    // блоки з відсортованого масиву заповнюються на 3/4, щоб вставки не ділили їх одразу
+    private static final int BULK_BLOCK_SIZE = MAX_BLOCK_SIZE * 3 / 4;
+    private static final int MERGE_THRESHOLD = MAX_BLOCK_SIZE / 4;
+    private static final int MIN_BLOCK_COUNT = 4;
+
+    private int[][] blocks;
+    private int[] blockSizes;
+    private int[] blockTree;
+    private int blockCount;
+    private int size;
+
+    SortedFloatList() {
+        this.blocks = new int[MIN_BLOCK_COUNT][];
+        this.blockSizes = new int[MIN_BLOCK_COUNT];
+        this.blockTree = new int[MIN_BLOCK_COUNT + 1];
+    }
+
+    /**
+     * Будує список з уже відсортованих значень за O(n) без порівнянь.
+     *
+     * @param sortedValues Значення у порядку {@link Float#compare(float, float)}; масив не змінюється
+     * @return Список
+     */
+    static SortedFloatList fromSorted(float[] sortedValues) {
+        SortedFloatList list = new SortedFloatList();
+        int blockCount = (sortedValues.length + BULK_BLOCK_SIZE - 1) / BULK_BLOCK_SIZE;
+        list.ensureBlockCapacity(blockCount);
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * BULK_BLOCK_SIZE;
+            int to = Math.min(from + BULK_BLOCK_SIZE, sortedValues.length);
+            int[] keys = new int[MAX_BLOCK_SIZE];
+            for (int i = from; i < to; i++) {
+                keys[i - from] = FloatSortedIndex.sortableBits(sortedValues[i]);
+            }
+            list.blocks[block] = keys;
+            list.blockSizes[block] = to - from;
+        }
+        list.blockCount = blockCount;
+        list.size = sortedValues.length;
+        list.rebuildTree();
+        return list;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index Позиція у відсортованому порядку
+     * @return Значення
+     * @throws IndexOutOfBoundsException Якщо позиція поза межами списку
+     */
+    float get(int index) {
+        Objects.checkIndex(index, size);
+        // спуск деревом Фенвіка: найбільша кількість блоків, що містять не більше index значень
+        int block = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(blockCount); step > 0; step >>>= 1) {
+            int next = block + step;
+            if (next <= blockCount && blockTree[next] <= remaining) {
+                block = next;
+                remaining -= blockTree[next];
+            }
+        }
+        return FloatMinMaxKernel.fromSortableBits(blocks[block][remaining]);
+    }
+
+    /**
+     * @return Найменше значення
+     * @throws NoSuchElementException Якщо список порожній
+     */
+    float min() {
+        requireNotEmpty();
+        return FloatMinMaxKernel.fromSortableBits(blocks[0][0]);
+    }
+
+    /**
+     * @return Найбільше значення
+     * @throws NoSuchElementException Якщо список порожній
+     */
+    float max() {
+        requireNotEmpty();
+        int last = blockCount - 1;
+        return FloatMinMaxKernel.fromSortableBits(blocks[last][blockSizes[last] - 1]);
+    }
+
+    /**
+     * @return Позиція першого входження значення у відсортованому порядку або -1
+     */
+    int indexOf(float value) {
+        if (size == 0) {
+            return -1;
+        }
+        int key = FloatSortedIndex.sortableBits(value);
+        int block = findBlock(key);
+        int offset = lowerBound(blocks[block], blockSizes[block], key);
+        if (offset == blockSizes[block] || blocks[block][offset] != key) {
+            return -1;
+        }
+        return prefixSize(block) + offset;
+    }
+
+    boolean contains(float value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Вставляє значення на його місце за O(log n) пошуку і зсув одного блоку.
+     */
+    void add(float value) {
+        int key = FloatSortedIndex.sortableBits(value);
+        if (blockCount == 0) {
+            blocks[0] = new int[MAX_BLOCK_SIZE];
+            blockCount = 1;
+            rebuildTree();
+        }
+
+        int block = findBlock(key);
+        int[] keys = blocks[block];
+        int blockSize = blockSizes[block];
+        int offset = lowerBound(keys, blockSize, key);
+        System.arraycopy(keys, offset, keys, offset + 1, blockSize - offset);
+        keys[offset] = key;
+        blockSizes[block] = blockSize + 1;
+        size++;
+
+        if (blockSize + 1 == MAX_BLOCK_SIZE) {
+            splitBlock(block);
+        } else {
+            updateTree(block, 1);
+        }
+    }
+
+    /**
+     * Видаляє одне входження значення.
+     *
+     * @return true, якщо значення було у списку
+     */
+    boolean remove(float value) {
+        if (size == 0) {
+            return false;
+        }
+        int key = FloatSortedIndex.sortableBits(value);
+        int block = findBlock(key);
+        int[] keys = blocks[block];
+        int blockSize = blockSizes[block];
+        int offset = lowerBound(keys, blockSize, key);
+        if (offset == blockSize || keys[offset] != key) {
+            return false;
+        }
+
+        System.arraycopy(keys, offset + 1, keys, offset, blockSize - offset - 1);
+        blockSizes[block] = blockSize - 1;
+        size--;
+
+        if (blockSize - 1 < MERGE_THRESHOLD) {
+            compactAround(block);
+        } else {
+            updateTree(block, -1);
+        }
+        return true;
+    }
+
+    /**
+     * Передає всі значення приймачу у відсортованому порядку.
+     */
+    void forEach(FloatTextParser.FloatSink sink) {
+        for (int block = 0; block < blockCount; block++) {
+            int[] keys = blocks[block];
+            for (int i = 0; i < blockSizes[block]; i++) {
+                sink.accept(FloatMinMaxKernel.fromSortableBits(keys[i]));
+            }
+        }
+    }
+
+    /**
+     * @return Значення у відсортованому порядку
+     */
+    float[] toArray() {
+        float[] values = new float[size];
+        int position = 0;
+        for (int block = 0; block < blockCount; block++) {
+            int[] keys = blocks[block];
+            for (int i = 0; i < blockSizes[block]; i++) {
+                values[position++] = FloatMinMaxKernel.fromSortableBits(keys[i]);
+            }
+        }
+        return values;
+    }
+
+    private void requireNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Список порожній");
+        }
+    }
+
+    /**
+     * @return Перший блок, останній ключ якого не менший за key, або останній блок
+     */
+    private int findBlock(int key) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int[] keys = blocks[middle];
+            if (keys[blockSizes[middle] - 1] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(int[] keys, int length, int key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void splitBlock(int block) {
+        ensureBlockCapacity(blockCount + 1);
+        System.arraycopy(blocks, block + 1, blocks, block + 2, blockCount - block - 1);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block + 2, blockCount - block - 1);
+
+        int half = MAX_BLOCK_SIZE / 2;
+        int[] upper = new int[MAX_BLOCK_SIZE];
+        System.arraycopy(blocks[block], half, upper, 0, MAX_BLOCK_SIZE - half);
+        blocks[block + 1] = upper;
+        blockSizes[block + 1] = MAX_BLOCK_SIZE - half;
+        blockSizes[block] = half;
+        blockCount++;
+        rebuildTree();
+    }
+
+    /**
+     * Прибирає порожній блок або зливає малий блок із сусіднім, якщо разом вони вміщуються
+     * у блок масового заповнення.
+     */
+    private void compactAround(int block) {
+        if (blockSizes[block] == 0) {
+            removeBlock(block);
+        } else if (block + 1 < blockCount && blockSizes[block] + blockSizes[block + 1] <= BULK_BLOCK_SIZE) {
+            mergeWithNext(block);
+        } else if (block > 0 && blockSizes[block - 1] + blockSizes[block] <= BULK_BLOCK_SIZE) {
+            mergeWithNext(block - 1);
+        } else {
+            updateTree(block, -1);
+            return;
+        }
+        rebuildTree();
+    }
+
+    private void mergeWithNext(int block) {
+        System.arraycopy(blocks[block + 1], 0, blocks[block], blockSizes[block], blockSizes[block + 1]);
+        blockSizes[block] += blockSizes[block + 1];
+        removeBlock(block + 1);
+    }
+
+    private void removeBlock(int block) {
+        System.arraycopy(blocks, block + 1, blocks, block, blockCount - block - 1);
+        System.arraycopy(blockSizes, block + 1, blockSizes, block, blockCount - block - 1);
+        blockCount--;
+        blocks[blockCount] = null;
+        blockSizes[blockCount] = 0;
+    }
+
+    private void ensureBlockCapacity(int requiredBlocks) {
+        if (requiredBlocks > blocks.length) {
+            int capacity = Math.max(requiredBlocks, blocks.length + (blocks.length >> 1));
+            blocks = Arrays.copyOf(blocks, capacity);
+            blockSizes = Arrays.copyOf(blockSizes, capacity);
+        }
+    }
+
+    /**
+     * Перебудовує дерево Фенвіка за O(кількості блоків) після зміни складу блоків.
+     */
+    private void rebuildTree() {
+        if (blockTree.length < blockCount + 1) {
+            blockTree = new int[blocks.length + 1];
+        } else {
+            Arrays.fill(blockTree, 0);
+        }
+        for (int i = 1; i <= blockCount; i++) {
+            blockTree[i] += blockSizes[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= blockCount) {
+                blockTree[parent] += blockTree[i];
+            }
+        }
+    }
+
+    private void updateTree(int block, int delta) {
+        for (int i = block + 1; i <= blockCount; i += i & -i) {
+            blockTree[i] += delta;
+        }
+    }
+
+    /**
+     * @return Кількість значень у блоках перед block
+     */
+    private int prefixSize(int block) {
+        int sum = 0;
+        for (int i = block; i > 0; i -= i & -i) {
+            sum += blockTree[i];
+        }
+        return sum;
+    }
+}
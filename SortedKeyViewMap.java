@@ -0,0 +1,157 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Клас SortedKeyViewMap - обгортка над хеш-Map з відсортованим індексом ключів.
+ *
+ * <p>Доступ за ключем іде до вкладеної Map, а ключі додатково зберігаються у {@link TreeSet}
+ * із заданим компаратором. Індекс оновлюється інкрементно за O(log n) на кожне додавання і
+ * видалення ключа, тож обхід у відсортованому порядку не потребує ні сортування, ні копії
+ * записів: кожен наступний ключ береться з індексу, а значення - з вкладеної Map.</p>
+ *
+ * <p>Обхід {@link #entrySet()} і всіх подань іде в порядку компаратора. Компаратор має бути
+ * узгоджений з {@code equals} ключів, а вкладену Map не можна змінювати в обхід обгортки.
+ * Значення null не підтримуються.</p>
+ *
+ * @param <K> Тип ключа
+ * @param <V> Тип значення
+ */
+class SortedKeyViewMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> map;
+    private final Comparator<? super K> comparator;
+    private final TreeSet<K> sortedKeys;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Обгортає Map і будує індекс над її поточними ключами за O(n log n).
+     *
+     * @param map Вкладена Map; надалі змінюється лише через обгортку
+     * @param comparator Порядок обходу
+     */
+    SortedKeyViewMap(Map<K, V> map, Comparator<? super K> comparator) {
+        this.map = map;
+        this.comparator = comparator;
+        this.sortedKeys = new TreeSet<>(comparator);
+        sortedKeys.addAll(map.keySet());
+    }
+
+    /**
+     * @return Компаратор порядку обходу
+     */
+    Comparator<? super K> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Objects.requireNonNull(value, "Значення не може бути null");
+        V previous = map.put(key, value);
+        if (previous == null) {
+            sortedKeys.add(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        V previous = map.remove(key);
+        if (previous != null) {
+            sortedKeys.remove(key);
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        sortedKeys.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            Iterator<K> keys = sortedKeys.iterator();
+            return new Iterator<>() {
+                private K last;
+                private boolean hasLast;
+
+                @Override
+                public boolean hasNext() {
+                    return keys.hasNext();
+                }
+
+                @Override
+                public Map.Entry<K, V> next() {
+                    last = keys.next();
+                    hasLast = true;
+                    return new SortedEntry(last, map.get(last));
+                }
+
+                @Override
+                public void remove() {
+                    if (!hasLast) {
+                        throw new IllegalStateException();
+                    }
+                    keys.remove();
+                    map.remove(last);
+                    hasLast = false;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            SortedKeyViewMap.this.clear();
+        }
+    }
+
+    private final class SortedEntry extends AbstractMap.SimpleEntry<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        SortedEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            Objects.requireNonNull(value, "Значення не може бути null");
+            // ключ уже є у Map, тож запис не змінює індексу
+            map.put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Клас StreamingFloatAnalyzer аналізує файл float за один прохід без завантаження масиву.
+ *
+ * <p>Пошук значення, визначення першої позиції та кількості входжень, підрахунок елементів,
+ * пошук мінімуму та максимуму і наповнення ескізу квантилів {@link FloatKllSketch}
+ * виконуються одночасно під час читання файлу, тому використовується обмежена кількість
+ * пам'яті незалежно від розміру файлу.</p>
+ *
+ * <p>Методи класу:</p>
+ * <ul>
+ *   <li>{@link #analyzeFile(String)} - Обробляє файл за один прохід.</li>
+ *   <li>{@link #printReport()} - Виводить результати у форматі звітів процесорів масивів.</li>
+ * </ul>
+ */
+public class StreamingFloatAnalyzer implements FloatTextParser.FloatSink {
+    private final float floatValueToSearch;
+    private final double[] quantilesToReport;
+    private final FloatKllSketch quantileSketch = new FloatKllSketch();
+
+    private long elementCount;
+    private long firstPosition = -1;
+    private long matchCount;
+    private float minValue;
+    private float maxValue;
+
+    /**
+     * Конструктор, який iнiцiалiзує аналізатор значенням для пошуку.
+     *
+     * @param floatValueToSearch Значення для пошуку
+     * @param quantilesToReport Квантилі від 0 до 1 для звіту
+     */
+    StreamingFloatAnalyzer(float floatValueToSearch, double[] quantilesToReport) {
+        this.floatValueToSearch = floatValueToSearch;
+        this.quantilesToReport = quantilesToReport;
+    }
+
+    @Override
+    public void accept(float value) {
+        if (Float.compare(floatValueToSearch, value) == 0) {
+            if (firstPosition < 0) {
+                firstPosition = elementCount;
+            }
+            matchCount++;
+        }
+
+        if (elementCount == 0) {
+            minValue = value;
+            maxValue = value;
+        } else {
+            if (Float.compare(value, minValue) < 0) {
+                minValue = value;
+            }
+            if (Float.compare(value, maxValue) > 0) {
+                maxValue = value;
+            }
+        }
+        elementCount++;
+        quantileSketch.accept(value);
+    }
+
+    /**
+     * Обробляє файл за один прохід і фіксує тривалість обробки.
+     *
+     * @param filePath Шлях до файлу з даними
+     */
+    void analyzeFile(String filePath) {
+        long timeStart = System.nanoTime();
+
+        DataFileHandler.streamFloatsFromFile(filePath, this);
+
+        PerformanceTracker.recordOperationTime(timeStart, "потоковий аналіз файлу за один прохід");
+    }
+
+    /**
+     * Виводить результати пошуку та граничні значення.
+     */
+    void printReport() {
+        System.out.println("Кiлькiсть елементiв в масивi: " + elementCount);
+
+        if (firstPosition >= 0) {
+            System.out.println("Елемент '" + floatValueToSearch + "' знайдено в масивi за позицією: " + firstPosition);
+            System.out.println("Кiлькiсть входжень елемента '" + floatValueToSearch + "': " + matchCount);
+        } else {
+            System.out.println("Елемент '" + floatValueToSearch + "' відсутній в масиві.");
+        }
+
+        if (elementCount == 0) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        System.out.println("Найменше значення в масивi: " + minValue);
+        System.out.println("Найбільше значення в масивi: " + maxValue);
+
+        float[] estimates = quantileSketch.quantiles(quantilesToReport);
+        for (int i = 0; i < quantilesToReport.length; i++) {
+            System.out.println("Квантиль " + quantilesToReport[i] + " (ескіз KLL): " + estimates[i]);
+        }
+        System.out.printf("Похибка рангу ескізу: до %.2f%% (k = %d, збережено %d значень)%n",
+                quantileSketch.normalizedRankError() * 100, quantileSketch.k(), quantileSketch.retainedCount());
+    }
+}
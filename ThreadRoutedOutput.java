@@ -0,0 +1,126 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+
+/**
+ * Клас ThreadRoutedOutput перенаправляє {@link System#out} окремо для кожного потоку.
+ *
+ * <p>Після {@link #install()} потік, що виконує {@link #capture(Runnable)}, пише у власний буфер,
+ * а решта потоків - у вихідний {@code System.out}. Зібраний вивід друкується цілим блоком
+ * через {@link #printAtomically(byte[])}, тож звіти паралельних аналізів не перемежовуються.</p>
+ */
+class ThreadRoutedOutput extends OutputStream {
+    private final PrintStream target;
+    private final PrintStream routedStream;
+    private final ThreadLocal<OutputStream> threadRedirect = new ThreadLocal<>();
+
+    private ThreadRoutedOutput(PrintStream target) {
+        this.target = target;
+        this.routedStream = new PrintStream(this, true, outputCharset());
+    }
+
+    /**
+     * Встановлює перенаправлення замість поточного {@code System.out}.
+     *
+     * @return Встановлене перенаправлення; {@link #close()} повертає вихідний потік виводу
+     */
+    static ThreadRoutedOutput install() {
+        ThreadRoutedOutput routedOutput = new ThreadRoutedOutput(System.out);
+        System.setOut(routedOutput.routedStream);
+        return routedOutput;
+    }
+
+    /**
+     * Виконує дію, збираючи весь її вивід у поточному потоці.
+     *
+     * @param action Дія
+     * @return Байти виводу дії
+     */
+    byte[] capture(Runnable action) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        redirect(buffer, action);
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Виконує дію, відкидаючи її вивід у поточному потоці.
+     *
+     * @param action Дія
+     */
+    void discard(Runnable action) {
+        redirect(OutputStream.nullOutputStream(), action);
+    }
+
+    /**
+     * Друкує зібраний вивід одним блоком.
+     *
+     * @param output Байти виводу
+     */
+    void printAtomically(byte[] output) {
+        synchronized (target) {
+            target.write(output, 0, output.length);
+            target.flush();
+        }
+    }
+
+    private void redirect(OutputStream destination, Runnable action) {
+        OutputStream previous = threadRedirect.get();
+        threadRedirect.set(destination);
+        try {
+            action.run();
+        } finally {
+            routedStream.flush();
+            if (previous == null) {
+                threadRedirect.remove();
+            } else {
+                threadRedirect.set(previous);
+            }
+        }
+    }
+
+    private static Charset outputCharset() {
+        // у Java 17 кодування консолі доступне лише через системну властивість
+        String encoding = System.getProperty("sun.stdout.encoding");
+        return encoding != null && Charset.isSupported(encoding) ? Charset.forName(encoding) : Charset.defaultCharset();
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        OutputStream destination = threadRedirect.get();
+        if (destination != null) {
+            destination.write(value);
+        } else {
+            target.write(value);
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        OutputStream destination = threadRedirect.get();
+        if (destination != null) {
+            destination.write(bytes, offset, length);
+        } else {
+            target.write(bytes, offset, length);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (threadRedirect.get() == null) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Повертає вихідний {@code System.out}.
+     */
+    @Override
+    public void close() {
+        routedStream.flush();
+        if (System.out == routedStream) {
+            System.setOut(target);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Клас TypedDataOperation виконує аналізи List, Queue та Set над набором даних будь-якого типу.
+ *
+ * <p>Усі операції працюють з індексами елементів примітивного сховища {@link TypedDataset},
+ * тому значення не упаковуються в об'єкти-обгортки:</p>
+ * <ul>
+ *   <li>{@link #runListOperations()} - лінійний пошук, граничні значення, сортування та двійковий пошук.</li>
+ *   <li>{@link #runQueueOperations()} - операції peek і poll над двійковою купою індексів.</li>
+ *   <li>{@link #runSetOperations()} - кількість унікальних елементів та перевірка наявності.</li>
+ * </ul>
+ *
+ * <p>Відсортована копія створюється один раз і зберігається у файл {@code .sorted}
+ * через {@link DataFileHandler#submitWrite}.</p>
+ */
+class TypedDataOperation {
+    private final DatasetType type;
+    private final TypedDataset dataset;
+    private TypedDataset sortedDataset;
+
+    /**
+     * @param type Тип набору даних
+     * @param dataset Завантажений набір з розібраним значенням для пошуку
+     */
+    TypedDataOperation(DatasetType type, TypedDataset dataset) {
+        this.type = type;
+        this.dataset = dataset;
+    }
+
+    /**
+     * Лінійний пошук, граничні значення, сортування та двійковий пошук у відсортованому наборі.
+     */
+    void runListOperations() {
+        findLinear();
+        locateMinMax();
+        prepareSortedDataset();
+        findInSorted();
+    }
+
+    /**
+     * Операції peek і poll над купою індексів; найменший елемент - голова черги.
+     */
+    void runQueueOperations() {
+        if (dataset.size() == 0) {
+            System.out.println("Черга є пустою або не ініціалізованою.");
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+        IndexHeap heap = new IndexHeap(dataset);
+        PerformanceTracker.recordOperationTime(timeStart, "побудова черги " + type.optionName());
+
+        System.out.println("Головний елемент черги (peek): " + dataset.format(heap.peek()));
+        System.out.println("Видалений елемент черги (poll): " + dataset.format(heap.poll()));
+        if (heap.size() > 0) {
+            System.out.println("Новий головний елемент черги: " + dataset.format(heap.peek()));
+        }
+    }
+
+    /**
+     * Кількість унікальних елементів та перевірка наявності за відсортованою копією.
+     */
+    void runSetOperations() {
+        prepareSortedDataset();
+
+        long timeStart = System.nanoTime();
+        int distinctCount = sortedDataset.size() == 0 ? 0 : 1;
+        for (int i = 1; i < sortedDataset.size(); i++) {
+            if (sortedDataset.compare(i - 1, i) != 0) {
+                distinctCount++;
+            }
+        }
+        boolean contains = binarySearch(sortedDataset) >= 0;
+        PerformanceTracker.recordOperationTime(timeStart, "аналіз унікальних елементів " + type.optionName());
+
+        System.out.println("Кiлькiсть унікальних елементів: " + distinctCount + " з " + dataset.size());
+        System.out.println(contains
+                ? "Елемент '" + dataset.formatQuery() + "' знайдено в Set"
+                : "Елемент '" + dataset.formatQuery() + "' відсутній в Set.");
+    }
+
+    private void findLinear() {
+        long timeStart = System.nanoTime();
+
+        int position = -1;
+        for (int i = 0; i < dataset.size(); i++) {
+            if (dataset.compareWithQuery(i) == 0) {
+                position = i;
+                break;
+            }
+        }
+
+        PerformanceTracker.recordOperationTime(timeStart, "пошук елемента в масивi " + type.optionName());
+
+        if (position >= 0) {
+            System.out.println("Елемент '" + dataset.formatQuery() + "' знайдено в масивi за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + dataset.formatQuery() + "' відсутній в масиві.");
+        }
+    }
+
+    private void locateMinMax() {
+        if (dataset.size() == 0) {
+            System.out.println("Масив є пустим або не ініціалізованим.");
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+
+        int minIndex = 0;
+        int maxIndex = 0;
+        for (int i = 1; i < dataset.size(); i++) {
+            if (dataset.compare(i, minIndex) < 0) {
+                minIndex = i;
+            }
+            if (dataset.compare(i, maxIndex) > 0) {
+                maxIndex = i;
+            }
+        }
+
+        PerformanceTracker.recordOperationTime(timeStart, "визначення мiнiмального i максимального значення " + type.optionName());
+
+        System.out.println("Найменше значення в масивi: " + dataset.format(minIndex));
+        System.out.println("Найбільше значення в масивi: " + dataset.format(maxIndex));
+    }
+
+    private void findInSorted() {
+        long timeStart = System.nanoTime();
+        int position = binarySearch(sortedDataset);
+        PerformanceTracker.recordOperationTime(timeStart, "двійковий пошук у відсортованому масивi " + type.optionName());
+
+        if (position >= 0) {
+            System.out.println("Елемент '" + dataset.formatQuery() + "' знайдено у відсортованому масивi за позицією: " + position);
+        } else {
+            System.out.println("Елемент '" + dataset.formatQuery() + "' відсутній у відсортованому масиві.");
+        }
+    }
+
+    private void prepareSortedDataset() {
+        if (sortedDataset != null) {
+            return;
+        }
+
+        long timeStart = System.nanoTime();
+        sortedDataset = dataset.sortedCopy();
+        PerformanceTracker.recordOperationTime(timeStart, "упорядкування масиву " + type.optionName());
+
+        TypedDataset sortedSnapshot = sortedDataset;
+        String sortedFilePath = type.filePath() + SortedDatasetCache.SORTED_SUFFIX;
+        DataFileHandler.submitWrite("збереження " + sortedFilePath,
+                () -> writeLines(sortedSnapshot, Path.of(sortedFilePath)));
+    }
+
+    /**
+     * Двійковий пошук значення для пошуку у відсортованому наборі.
+     *
+     * @return Індекс знайденого елемента або від'ємне число, якщо елемента немає
+     */
+    static int binarySearch(TypedDataset sortedDataset) {
+        int low = 0;
+        int high = sortedDataset.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = sortedDataset.compareWithQuery(middle);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Записує елементи набору у текстовий файл, по одному в рядку, без символу нового рядка в кінці.
+     */
+    static void writeLines(TypedDataset dataset, Path path) throws IOException {
+        try (OutputStream outputStream = Files.newOutputStream(path);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 1 << 16)) {
+            for (int i = 0; i < dataset.size(); i++) {
+                if (i > 0) {
+                    writer.write(System.lineSeparator());
+                }
+                writer.write(dataset.format(i));
+            }
+        }
+    }
+
+    /**
+     * Двійкова купа індексів елементів набору; порівняння виконується через набір даних.
+     */
+    static class IndexHeap {
+        private final TypedDataset dataset;
+        private final int[] heap;
+        private int size;
+
+        IndexHeap(TypedDataset dataset) {
+            this.dataset = dataset;
+            this.size = dataset.size();
+            this.heap = new int[size];
+            for (int i = 0; i < size; i++) {
+                heap[i] = i;
+            }
+            // побудова купи знизу вгору за O(n)
+            for (int i = (size >>> 1) - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        int peek() {
+            return heap[0];
+        }
+
+        int poll() {
+            int head = heap[0];
+            heap[0] = heap[--size];
+            siftDown(0);
+            return head;
+        }
+
+        private void siftDown(int position) {
+            int element = heap[position];
+            int half = size >>> 1;
+            while (position < half) {
+                int child = 2 * position + 1;
+                int right = child + 1;
+                if (right < size && dataset.compare(heap[right], heap[child]) < 0) {
+                    child = right;
+                }
+                if (dataset.compare(element, heap[child]) <= 0) {
+                    break;
+                }
+                heap[position] = heap[child];
+                position = child;
+            }
+            heap[position] = element;
+        }
+    }
+}
@@ -0,0 +1,542 @@
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Клас TypedDataset описує набір даних одного типу, збережений у примітивному масиві.
+ *
+ * <p>Кожен тип має власне сховище та власний розбір рядків файлу:</p>
+ * <ul>
+ *   <li>{@code int[]}, {@code long[]}, {@code short[]}, {@code byte[]}, {@code float[]}, {@code double[]}
+ *       для числових типів;</li>
+ *   <li>{@code long[]} для дат і часу: LocalDate - день епохи, LocalDateTime - секунда епохи (UTC),
+ *       LocalTime - наносекунда доби;</li>
+ *   <li>{@code char[]} для Character;</li>
+ *   <li>{@code String[]} для рядків.</li>
+ * </ul>
+ *
+ * <p>Алгоритми аналізу звертаються до елементів за індексами через {@link #compare(int, int)}
+ * та {@link #compareWithQuery(int)}, тому значення не упаковуються в об'єкти-обгортки.
+ * Значення для пошуку також зберігається у примітивному полі після {@link #parseQuery(String)}.</p>
+ */
+abstract class TypedDataset {
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * @return Кількість елементів
+     */
+    abstract int size();
+
+    /**
+     * @param index Індекс елемента
+     * @return Текстове подання елемента
+     */
+    abstract String format(int index);
+
+    /**
+     * Порівнює два елементи набору.
+     */
+    abstract int compare(int first, int second);
+
+    /**
+     * Розбирає значення для пошуку у примітивне подання відповідного типу.
+     *
+     * @param text Значення з командного рядка
+     * @throws RuntimeException Якщо значення не відповідає типу набору
+     */
+    abstract void parseQuery(String text);
+
+    /**
+     * Порівнює елемент зі значенням для пошуку.
+     */
+    abstract int compareWithQuery(int index);
+
+    /**
+     * @return Текстове подання значення для пошуку
+     */
+    abstract String formatQuery();
+
+    /**
+     * @return Відсортована копія набору з тим самим значенням для пошуку
+     */
+    abstract TypedDataset sortedCopy();
+
+    /**
+     * @return Обсяг примітивного сховища в байтах
+     */
+    abstract long storageBytes();
+
+    /**
+     * Розбирає ціле число зі знаком безпосередньо з байтів.
+     */
+    static long parseLong(byte[] buffer, int start, int end) {
+        int position = start;
+        boolean negative = buffer[position] == '-';
+        if (negative || buffer[position] == '+') {
+            position++;
+        }
+
+        // до 18 цифр переповнення неможливе
+        if (end - position > 0 && end - position <= 18) {
+            long result = 0;
+            for (; position < end; position++) {
+                int digit = buffer[position] - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                result = result * 10 + digit;
+            }
+            if (position == end) {
+                return negative ? -result : result;
+            }
+        }
+        return Long.parseLong(asciiString(buffer, start, end));
+    }
+
+    static long parseInRange(byte[] buffer, int start, int end, long min, long max) {
+        long value = parseLong(buffer, start, end);
+        if (value < min || value > max) {
+            throw new NumberFormatException("Значення поза межами типу: " + asciiString(buffer, start, end));
+        }
+        return value;
+    }
+
+    static String asciiString(byte[] buffer, int start, int end) {
+        return new String(buffer, start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    static int newCapacity(int currentCapacity) {
+        return currentCapacity + (currentCapacity >> 1) + 1;
+    }
+
+    /**
+     * Набір int.
+     */
+    static class IntValues extends TypedDataset {
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size;
+        private int query;
+
+        static IntValues load(String filePath) {
+            IntValues dataset = new IntValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) ->
+                    dataset.add((int) parseInRange(buffer, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE)));
+            return dataset;
+        }
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return Integer.toString(values[index]); }
+        @Override int compare(int first, int second) { return Integer.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = Integer.parseInt(text.trim()); }
+        @Override int compareWithQuery(int index) { return Integer.compare(values[index], query); }
+        @Override String formatQuery() { return Integer.toString(query); }
+        @Override long storageBytes() { return (long) size * Integer.BYTES; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            IntValues copy = new IntValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір short.
+     */
+    static class ShortValues extends TypedDataset {
+        private short[] values = new short[INITIAL_CAPACITY];
+        private int size;
+        private short query;
+
+        static ShortValues load(String filePath) {
+            ShortValues dataset = new ShortValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) ->
+                    dataset.add((short) parseInRange(buffer, start, end, Short.MIN_VALUE, Short.MAX_VALUE)));
+            return dataset;
+        }
+
+        void add(short value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return Short.toString(values[index]); }
+        @Override int compare(int first, int second) { return Short.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = Short.parseShort(text.trim()); }
+        @Override int compareWithQuery(int index) { return Short.compare(values[index], query); }
+        @Override String formatQuery() { return Short.toString(query); }
+        @Override long storageBytes() { return (long) size * Short.BYTES; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            ShortValues copy = new ShortValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір byte.
+     */
+    static class ByteValues extends TypedDataset {
+        private byte[] values = new byte[INITIAL_CAPACITY];
+        private int size;
+        private byte query;
+
+        static ByteValues load(String filePath) {
+            ByteValues dataset = new ByteValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) ->
+                    dataset.add((byte) parseInRange(buffer, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE)));
+            return dataset;
+        }
+
+        void add(byte value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return Byte.toString(values[index]); }
+        @Override int compare(int first, int second) { return Byte.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = Byte.parseByte(text.trim()); }
+        @Override int compareWithQuery(int index) { return Byte.compare(values[index], query); }
+        @Override String formatQuery() { return Byte.toString(query); }
+        @Override long storageBytes() { return size; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            ByteValues copy = new ByteValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір float.
+     */
+    static class FloatValues extends TypedDataset {
+        private float[] values;
+        private float query;
+
+        FloatValues(float[] values) {
+            this.values = values;
+        }
+
+        static FloatValues load(String filePath) {
+            return new FloatValues(DataFileHandler.loadFloatsPreferringBinary(filePath));
+        }
+
+        @Override int size() { return values.length; }
+        @Override String format(int index) { return Float.toString(values[index]); }
+        @Override int compare(int first, int second) { return Float.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = Float.parseFloat(text); }
+        @Override int compareWithQuery(int index) { return Float.compare(values[index], query); }
+        @Override String formatQuery() { return Float.toString(query); }
+        @Override long storageBytes() { return (long) values.length * Float.BYTES; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            FloatValues copy = new FloatValues(values.clone());
+            copy.query = query;
+            FloatSortEngine.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір double.
+     */
+    static class DoubleValues extends TypedDataset {
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size;
+        private double query;
+
+        static DoubleValues load(String filePath) {
+            DoubleValues dataset = new DoubleValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) ->
+                    dataset.add(Double.parseDouble(asciiString(buffer, start, end))));
+            return dataset;
+        }
+
+        void add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return Double.toString(values[index]); }
+        @Override int compare(int first, int second) { return Double.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = Double.parseDouble(text); }
+        @Override int compareWithQuery(int index) { return Double.compare(values[index], query); }
+        @Override String formatQuery() { return Double.toString(query); }
+        @Override long storageBytes() { return (long) size * Double.BYTES; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            DoubleValues copy = new DoubleValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Спосіб кодування значень у {@code long}.
+     */
+    enum LongEncoding {
+        /** Звичайне число long. */
+        PLAIN {
+            @Override long parse(byte[] buffer, int start, int end) { return parseLong(buffer, start, end); }
+            @Override long parse(String text) { return Long.parseLong(text.trim()); }
+            @Override String format(long value) { return Long.toString(value); }
+        },
+        /** LocalDate як день епохи. */
+        EPOCH_DAY {
+            @Override long parse(byte[] buffer, int start, int end) {
+                // формат yyyy-MM-dd розбирається напряму з байтів
+                if (end - start == 10 && buffer[start + 4] == '-' && buffer[start + 7] == '-') {
+                    return LocalDate.of((int) parseLong(buffer, start, start + 4),
+                            (int) parseLong(buffer, start + 5, start + 7),
+                            (int) parseLong(buffer, start + 8, end)).toEpochDay();
+                }
+                return parse(asciiString(buffer, start, end));
+            }
+            @Override long parse(String text) { return LocalDate.parse(text.trim()).toEpochDay(); }
+            @Override String format(long value) { return LocalDate.ofEpochDay(value).toString(); }
+        },
+        /** LocalDateTime як секунда епохи за UTC; суфікс Z у файлі допускається. */
+        EPOCH_SECOND {
+            @Override long parse(byte[] buffer, int start, int end) {
+                if (end > start && buffer[end - 1] == 'Z') {
+                    end--;
+                }
+                // формат yyyy-MM-ddTHH:mm:ss розбирається напряму з байтів
+                if (end - start == 19 && buffer[start + 10] == 'T' && buffer[start + 13] == ':' && buffer[start + 16] == ':') {
+                    return LocalDateTime.of((int) parseLong(buffer, start, start + 4),
+                            (int) parseLong(buffer, start + 5, start + 7),
+                            (int) parseLong(buffer, start + 8, start + 10),
+                            (int) parseLong(buffer, start + 11, start + 13),
+                            (int) parseLong(buffer, start + 14, start + 16),
+                            (int) parseLong(buffer, start + 17, end)).toEpochSecond(ZoneOffset.UTC);
+                }
+                return parse(asciiString(buffer, start, end));
+            }
+            @Override long parse(String text) {
+                String trimmed = text.trim();
+                if (trimmed.endsWith("Z")) {
+                    trimmed = trimmed.substring(0, trimmed.length() - 1);
+                }
+                return LocalDateTime.parse(trimmed).toEpochSecond(ZoneOffset.UTC);
+            }
+            @Override String format(long value) { return LocalDateTime.ofEpochSecond(value, 0, ZoneOffset.UTC).toString(); }
+        },
+        /** LocalTime як наносекунда доби. */
+        NANO_OF_DAY {
+            @Override long parse(byte[] buffer, int start, int end) {
+                // формат HH:mm:ss розбирається напряму з байтів
+                if (end - start == 8 && buffer[start + 2] == ':' && buffer[start + 5] == ':') {
+                    return LocalTime.of((int) parseLong(buffer, start, start + 2),
+                            (int) parseLong(buffer, start + 3, start + 5),
+                            (int) parseLong(buffer, start + 6, end)).toNanoOfDay();
+                }
+                return parse(asciiString(buffer, start, end));
+            }
+            @Override long parse(String text) { return LocalTime.parse(text.trim()).toNanoOfDay(); }
+            @Override String format(long value) { return LocalTime.ofNanoOfDay(value).toString(); }
+        };
+
+        abstract long parse(byte[] buffer, int start, int end);
+
+        abstract long parse(String text);
+
+        abstract String format(long value);
+    }
+
+    /**
+     * Набір long, а також дат і часу, закодованих у long.
+     */
+    static class LongValues extends TypedDataset {
+        private final LongEncoding encoding;
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size;
+        private long query;
+
+        LongValues(LongEncoding encoding) {
+            this.encoding = encoding;
+        }
+
+        static LongValues load(String filePath, LongEncoding encoding) {
+            LongValues dataset = new LongValues(encoding);
+            ByteLineReader.readLines(filePath, (buffer, start, end) -> dataset.add(encoding.parse(buffer, start, end)));
+            return dataset;
+        }
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return encoding.format(values[index]); }
+        @Override int compare(int first, int second) { return Long.compare(values[first], values[second]); }
+        @Override void parseQuery(String text) { query = encoding.parse(text); }
+        @Override int compareWithQuery(int index) { return Long.compare(values[index], query); }
+        @Override String formatQuery() { return encoding.format(query); }
+        @Override long storageBytes() { return (long) size * Long.BYTES; }
+
+        @Override
+        TypedDataset sortedCopy() {
+            LongValues copy = new LongValues(encoding);
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір символів.
+     */
+    static class CharValues extends TypedDataset {
+        private char[] values = new char[INITIAL_CAPACITY];
+        private int size;
+        private char query;
+
+        static CharValues load(String filePath) {
+            CharValues dataset = new CharValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) -> dataset.add(decodeChar(buffer, start, end)));
+            return dataset;
+        }
+
+        /**
+         * Декодує один символ UTF-8 без створення рядка.
+         */
+        static char decodeChar(byte[] buffer, int start, int end) {
+            int first = buffer[start] & 0xFF;
+            if (first < 0x80 && end - start == 1) {
+                return (char) first;
+            }
+            if ((first & 0xE0) == 0xC0 && end - start == 2) {
+                return (char) (((first & 0x1F) << 6) | (buffer[start + 1] & 0x3F));
+            }
+            if ((first & 0xF0) == 0xE0 && end - start == 3) {
+                return (char) (((first & 0x0F) << 12) | ((buffer[start + 1] & 0x3F) << 6) | (buffer[start + 2] & 0x3F));
+            }
+            throw new IllegalArgumentException("Рядок не є одним символом: "
+                    + new String(buffer, start, end - start, StandardCharsets.UTF_8));
+        }
+
+        void add(char value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return String.valueOf(values[index]); }
+        @Override int compare(int first, int second) { return Character.compare(values[first], values[second]); }
+        @Override int compareWithQuery(int index) { return Character.compare(values[index], query); }
+        @Override String formatQuery() { return String.valueOf(query); }
+        @Override long storageBytes() { return (long) size * Character.BYTES; }
+
+        @Override
+        void parseQuery(String text) {
+            if (text.length() != 1) {
+                throw new IllegalArgumentException("Очікується один символ: " + text);
+            }
+            query = text.charAt(0);
+        }
+
+        @Override
+        TypedDataset sortedCopy() {
+            CharValues copy = new CharValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+
+    /**
+     * Набір рядків.
+     */
+    static class StringValues extends TypedDataset {
+        private String[] values = new String[INITIAL_CAPACITY];
+        private int size;
+        private String query;
+
+        static StringValues load(String filePath) {
+            StringValues dataset = new StringValues();
+            ByteLineReader.readLines(filePath, (buffer, start, end) ->
+                    dataset.add(new String(buffer, start, end - start, StandardCharsets.UTF_8)));
+            return dataset;
+        }
+
+        void add(String value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, newCapacity(size));
+            }
+            values[size++] = value;
+        }
+
+        @Override int size() { return size; }
+        @Override String format(int index) { return values[index]; }
+        @Override int compare(int first, int second) { return values[first].compareTo(values[second]); }
+        @Override void parseQuery(String text) { query = text; }
+        @Override int compareWithQuery(int index) { return values[index].compareTo(query); }
+        @Override String formatQuery() { return query; }
+
+        @Override
+        long storageBytes() {
+            // посилання плюс заголовок рядка і вміст (оцінка для компактних рядків)
+            long bytes = (long) size * Integer.BYTES;
+            for (int i = 0; i < size; i++) {
+                bytes += 24 + 16 + values[i].length();
+            }
+            return bytes;
+        }
+
+        @Override
+        TypedDataset sortedCopy() {
+            StringValues copy = new StringValues();
+            copy.values = Arrays.copyOf(values, size);
+            copy.size = size;
+            copy.query = query;
+            Arrays.sort(copy.values);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Клас WriteBehindQueue виконує запис файлів у фоновому потоці.
+ *
+ * <p>Завдання виконуються одним потоком у порядку надходження, тому залежні записи
+ * (наприклад, дані, а потім метадані) зберігають свою послідовність. Метод {@link #flush()}
+ * є бар'єром: він очікує завершення всіх поданих завдань і повідомляє про помилки.</p>
+ */
+class WriteBehindQueue implements AutoCloseable {
+    /**
+     * Завдання запису, що може завершитися помилкою введення-виведення.
+     */
+    @FunctionalInterface
+    interface WriteTask {
+        void run() throws IOException;
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Future<?>> pendingWrites = new ArrayList<>();
+    private final List<String> pendingDescriptions = new ArrayList<>();
+
+    /**
+     * Ставить завдання запису в чергу та одразу повертає керування.
+     *
+     * @param description Опис завдання для повідомлень про помилки.
+     * @param task Завдання запису.
+     */
+    synchronized void submit(String description, WriteTask task) {
+        pendingWrites.add(executor.submit(() -> {
+            task.run();
+            return null;
+        }));
+        pendingDescriptions.add(description);
+    }
+
+    /**
+     * Очікує завершення всіх поданих записів.
+     *
+     * @throws RuntimeException Якщо хоча б один запис завершився помилкою.
+     */
+    void flush() {
+        List<Future<?>> writes;
+        List<String> descriptions;
+        synchronized (this) {
+            writes = new ArrayList<>(pendingWrites);
+            descriptions = new ArrayList<>(pendingDescriptions);
+            pendingWrites.clear();
+            pendingDescriptions.clear();
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < writes.size(); i++) {
+            try {
+                writes.get(i).get();
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Очікування відкладеного запису перервано", interruptedException);
+            } catch (ExecutionException executionException) {
+                RuntimeException writeFailure = new RuntimeException(
+                        "Помилка відкладеного запису: " + descriptions.get(i), executionException.getCause());
+                if (failure == null) {
+                    failure = writeFailure;
+                } else {
+                    failure.addSuppressed(writeFailure);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Очікує завершення всіх записів і зупиняє фоновий потік.
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}